@@ -0,0 +1,177 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build-time pass over the copied static resources (run by exec-maven-plugin in process-resources).
+ *
+ * Each top-level script and stylesheet is copied to assets/name.hash.ext, where hash is taken from its content,
+ * and the pages' src/href references are rewritten to the fingerprinted copy, which the server caches as
+ * immutable. Stylesheets are minified; scripts are left as they are, since the pages build markup in template
+ * literals where whitespace is content. Pages and assets get a gzip sibling, plus brotli when the brotli CLI is
+ * on the PATH, for the server to send instead of compressing per request.
+ *
+ * Usage: java StaticAssetPipeline.java target/classes/static
+ */
+public class StaticAssetPipeline {
+
+    private static final int MIN_COMPRESS_BYTES = 1024;
+
+    public static void main(String[] args) throws Exception {
+        Path root = Paths.get(args.length > 0 ? args[0] : "target/classes/static");
+        if (!Files.isDirectory(root)) {
+            System.out.println("[static-assets] nothing to do, " + root + " does not exist");
+            return;
+        }
+        // Start clean so fingerprints of earlier builds do not pile up in incremental builds
+        Path assets = root.resolve("assets");
+        if (Files.isDirectory(assets)) {
+            for (Path stale : list(assets)) Files.delete(stale);
+        }
+        Files.createDirectories(assets);
+        boolean brotli = brotliAvailable();
+
+        // Original file name -> fingerprinted path relative to the static root
+        Map<String, String> fingerprinted = new LinkedHashMap<>();
+        for (Path file : list(root)) {
+            String name = file.getFileName().toString();
+            if (!name.endsWith(".js") && !name.endsWith(".css")) continue;
+            byte[] content = Files.readAllBytes(file);
+            if (name.endsWith(".css")) content = minifyCss(new String(content, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            int dot = name.lastIndexOf('.');
+            String target = name.substring(0, dot) + "." + hash(content) + name.substring(dot);
+            Path out = assets.resolve(target);
+            Files.write(out, content);
+            precompress(out, content, brotli);
+            fingerprinted.put(name, "assets/" + target);
+        }
+
+        int pages = 0;
+        for (Path file : list(root)) {
+            if (!file.getFileName().toString().endsWith(".html")) continue;
+            String html = Files.readString(file, StandardCharsets.UTF_8);
+            for (Map.Entry<String, String> asset : fingerprinted.entrySet()) {
+                // Also matches a reference already rewritten by an earlier build, when the page was not copied again
+                String name = asset.getKey();
+                int dot = name.lastIndexOf('.');
+                Pattern reference = Pattern.compile("((?:src|href)\\s*=\\s*[\"'])(?:\\./)?(?:assets/)?"
+                        + Pattern.quote(name.substring(0, dot)) + "(?:\\.[0-9a-f]{12})?" + Pattern.quote(name.substring(dot)) + "([\"'])");
+                html = reference.matcher(html).replaceAll("$1" + Matcher.quoteReplacement(asset.getValue()) + "$2");
+            }
+            byte[] content = html.getBytes(StandardCharsets.UTF_8);
+            Files.write(file, content);
+            precompress(file, content, brotli);
+            pages++;
+        }
+        System.out.println("[static-assets] fingerprinted " + fingerprinted.size() + " assets, precompressed "
+                + pages + " pages" + (brotli ? " (gzip + brotli)" : " (gzip; brotli CLI not found)"));
+    }
+
+    private static List<Path> list(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return new ArrayList<>(files.filter(Files::isRegularFile).sorted().toList());
+        }
+    }
+
+    private static String hash(byte[] content) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+        return HexFormat.of().formatHex(digest, 0, 6);
+    }
+
+    private static void precompress(Path file, byte[] content, boolean brotli) throws IOException, InterruptedException {
+        if (content.length < MIN_COMPRESS_BYTES) return;
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(content.length / 3);
+        try (OutputStream gzip = new GZIPOutputStream(gzipped) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gzip.write(content);
+        }
+        // A variant that saves next to nothing is not worth the extra lookup
+        if (gzipped.size() < content.length * 0.9) Files.write(siblingOf(file, ".gz"), gzipped.toByteArray());
+        if (brotli) {
+            Process process = new ProcessBuilder("brotli", "--best", "--force", "--output=" + siblingOf(file, ".br"), file.toString())
+                    .inheritIO().start();
+            if (!process.waitFor(60, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                process.destroy();
+                Files.deleteIfExists(siblingOf(file, ".br"));
+            }
+        }
+    }
+
+    private static Path siblingOf(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    private static boolean brotliAvailable() {
+        try {
+            Process process = new ProcessBuilder("brotli", "--version").redirectErrorStream(true).start();
+            process.getInputStream().readAllBytes();
+            return process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException | InterruptedException e) {
+            return false;
+        }
+    }
+
+    // Drops comments and collapses whitespace; quoted strings are copied untouched
+    static String minifyCss(String css) {
+        StringBuilder out = new StringBuilder(css.length());
+        int i = 0;
+        boolean pendingSpace = false;
+        while (i < css.length()) {
+            char c = css.charAt(i);
+            if (c == '/' && i + 1 < css.length() && css.charAt(i + 1) == '*') {
+                int end = css.indexOf("*/", i + 2);
+                i = end < 0 ? css.length() : end + 2;
+                pendingSpace = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (pendingSpace && out.length() > 0 && !spaceAfterOptional(out.charAt(out.length() - 1)) && !spaceBeforeOptional(c)) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+            if (c == '"' || c == '\'') {
+                int start = i++;
+                while (i < css.length() && css.charAt(i) != c) {
+                    if (css.charAt(i) == '\\') i++;
+                    i++;
+                }
+                i = Math.min(i + 1, css.length());
+                out.append(css, start, i);
+                continue;
+            }
+            out.append(c);
+            i++;
+        }
+        return out.toString();
+    }
+
+    // Whitespace next to these never changes meaning; elsewhere (descendant selectors, calc()) it can.
+    // A colon only counts on its left side: "a :hover" and "a:hover" are different selectors.
+    private static boolean spaceAfterOptional(char c) {
+        return c == '{' || c == '}' || c == ';' || c == ',' || c == ':' || c == '>';
+    }
+
+    private static boolean spaceBeforeOptional(char c) {
+        return c == '{' || c == '}' || c == ';' || c == ',' || c == '>';
+    }
+}
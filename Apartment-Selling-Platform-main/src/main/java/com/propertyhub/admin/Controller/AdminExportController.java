@@ -0,0 +1,71 @@
+package com.propertyhub.admin.Controller;
+
+import com.propertyhub.admin.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Full-table downloads (apartments, users, payments, purchases) as CSV or NDJSON, optionally gzipped.
+ * The body is written on an async thread while rows are read, instead of building a JSON array first
+ * like the GET-all admin endpoints do.
+ */
+@RestController
+@RequestMapping("/admin/export")
+@CrossOrigin(origins = "*")
+public class AdminExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<?> export(
+            @PathVariable String dataset,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        Map<String, Object> response = new HashMap<>();
+        String name = dataset.toLowerCase(Locale.ROOT);
+        String resolved = format.toLowerCase(Locale.ROOT);
+        if (!ExportService.isDataset(name)) {
+            response.put("success", false);
+            response.put("message", "Unknown dataset: " + dataset + " (apartments, users, payments, purchases)");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (!ExportService.FORMAT_CSV.equals(resolved) && !ExportService.FORMAT_NDJSON.equals(resolved)) {
+            response.put("success", false);
+            response.put("message", "Unsupported format: " + format + " (csv, ndjson)");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (!exportService.tryAcquire()) {
+            response.put("success", false);
+            response.put("message", "Too many exports running; try again shortly");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                exportService.export(name, resolved, gzip, out);
+            } finally {
+                exportService.release();
+            }
+        };
+        String filename = name + "-" + LocalDate.now() + "." + resolved + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : ExportService.FORMAT_CSV.equals(resolved) ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -1,6 +1,6 @@
 package com.propertyhub.admin.Controller; // ✅ lowercase folder name
 
-import com.propertyhub.admin.entity.AdminRentPayment;
+import com.propertyhub.admin.dto.AdminRentPayment;
 import com.propertyhub.admin.service.AdminRentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
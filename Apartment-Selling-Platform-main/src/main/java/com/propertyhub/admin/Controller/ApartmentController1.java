@@ -1,15 +1,24 @@
 package com.propertyhub.admin.Controller;
 
-import com.propertyhub.admin.entity.Apartment1;
+import com.propertyhub.admin.dto.AdminApartment;
 import com.propertyhub.admin.service.ApartmentService1;
+import com.propertyhub.apartment.dto.ApartmentImportResult;
+import com.propertyhub.apartment.importer.ApartmentImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/admin/apartments1")
@@ -19,23 +28,62 @@ public class ApartmentController1 {
     @Autowired
     private ApartmentService1 apartmentService1;
 
+    @Autowired
+    private ApartmentImportService apartmentImportService;
+
     @GetMapping
-    public List<Apartment1> getAllApartments() {
+    public List<AdminApartment> getAllApartments() {
         return apartmentService1.getAllApartments();
     }
 
     @GetMapping("/{id}")
-    public Apartment1 getApartmentById(@PathVariable Integer id) {
+    public AdminApartment getApartmentById(@PathVariable Integer id) {
         return apartmentService1.getApartmentById(id);
     }
 
     @PostMapping
-    public Apartment1 createApartment(@RequestBody Apartment1 apartment) {
+    public AdminApartment createApartment(@RequestBody AdminApartment apartment) {
         return apartmentService1.createApartment(apartment);
     }
 
+    /**
+     * Bulk import from CSV or NDJSON, sent either as the raw request body (Content-Type text/csv or
+     * application/x-ndjson, streamed straight from the socket) or as a multipart "file" part.
+     * The format can also be forced with ?format=csv|ndjson.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<Map<String, Object>> importApartments(
+            HttpServletRequest request,
+            @RequestParam(value = "file", required = false) MultipartFile file,
+            @RequestParam(value = "format", required = false) String format) throws IOException {
+        Map<String, Object> response = new HashMap<>();
+        String resolved = format != null ? format.toLowerCase(Locale.ROOT)
+                : file != null ? ApartmentImportService.formatFor(file.getContentType(), file.getOriginalFilename())
+                : ApartmentImportService.formatFor(request.getContentType(), null);
+        if (!ApartmentImportService.FORMAT_CSV.equals(resolved) && !ApartmentImportService.FORMAT_NDJSON.equals(resolved)) {
+            response.put("success", false);
+            response.put("message", "Unsupported import format; send text/csv or application/x-ndjson, or pass format=csv|ndjson");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        ApartmentImportResult result;
+        try (InputStream input = file != null ? file.getInputStream() : request.getInputStream()) {
+            result = apartmentImportService.importApartments(input, resolved);
+        }
+        response.put("success", result.isComplete());
+        response.put("message", "Imported " + result.getImported() + " of " + result.getRows() + " rows"
+                + (result.isComplete() ? "" : "; the upload did not finish"));
+        response.put("importId", result.getImportId());
+        response.put("rows", result.getRows());
+        response.put("imported", result.getImported());
+        response.put("failed", result.getFailed());
+        response.put("errors", result.getErrors());
+        response.put("errorsTruncated", result.isErrorsTruncated());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
-    public Apartment1 updateApartment(@PathVariable Integer id, @RequestBody Apartment1 apartment) {
+    public AdminApartment updateApartment(@PathVariable Integer id, @RequestBody AdminApartment apartment) {
         return apartmentService1.updateApartment(id, apartment);
     }
 
@@ -50,11 +98,11 @@ public class ApartmentController1 {
         }
     }
     @GetMapping("/test")
-    public List<Apartment1> getTestApartments() {
+    public List<AdminApartment> getTestApartments() {
         // Return test data without database
-        List<Apartment1> testData = new ArrayList<>();
+        List<AdminApartment> testData = new ArrayList<>();
 
-        Apartment1 apt1 = new Apartment1();
+        AdminApartment apt1 = new AdminApartment();
         apt1.setAptId(1);
         apt1.setAptType("Condo");
         apt1.setAptPrice(new BigDecimal("450000.00"));
@@ -1,7 +1,7 @@
 package com.propertyhub.admin.Controller;
 
 
-import com.propertyhub.admin.entity.User1;
+import com.propertyhub.admin.dto.AdminUser;
 import com.propertyhub.admin.service.User1Service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -18,9 +18,9 @@ public class User1Controller {
     private User1Service userService;
 
     @GetMapping
-    public ResponseEntity<List<User1>> getAllUsers() {
+    public ResponseEntity<List<AdminUser>> getAllUsers() {
         try {
-            List<User1> users = userService.getAllUsers();
+            List<AdminUser> users = userService.getAllUsers();
             return ResponseEntity.ok(users);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
@@ -28,9 +28,9 @@ public class User1Controller {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<User1> getUserById(@PathVariable Long id) {
+    public ResponseEntity<AdminUser> getUserById(@PathVariable Long id) {
         try {
-            Optional<User1> user = userService.getUserById(id);
+            Optional<AdminUser> user = userService.getUserById(id);
             return user.map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
@@ -39,9 +39,9 @@ public class User1Controller {
     }
 
     @PostMapping
-    public ResponseEntity<?> createUser(@RequestBody User1 user) {
+    public ResponseEntity<?> createUser(@RequestBody AdminUser user) {
         try {
-            User1 createdUser = userService.createUser(user);
+            AdminUser createdUser = userService.createUser(user);
             return ResponseEntity.ok(createdUser);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -51,9 +51,9 @@ public class User1Controller {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User1 userDetails) {
+    public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody AdminUser userDetails) {
         try {
-            User1 updatedUser = userService.updateUser(id, userDetails);
+            AdminUser updatedUser = userService.updateUser(id, userDetails);
             return ResponseEntity.ok(updatedUser);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -75,9 +75,9 @@ public class User1Controller {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<User1>> searchUsers(@RequestParam String q) {
+    public ResponseEntity<List<AdminUser>> searchUsers(@RequestParam String q) {
         try {
-            List<User1> users = userService.searchUsers(q);
+            List<AdminUser> users = userService.searchUsers(q);
             return ResponseEntity.ok(users);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
@@ -0,0 +1,91 @@
+package com.propertyhub.admin.dto;
+
+import com.propertyhub.apartment.entity.Apartment;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Admin view of an {@link Apartment}, in the apt* field names the admin dashboard uses. Price is a decimal with
+ * the column's two places. On updates a null field means "leave as is".
+ */
+public class AdminApartment {
+    private Integer aptId;
+    private String aptType;
+    private BigDecimal aptPrice;
+    private Integer aptBedrooms;
+    private String aptLocation;
+    private String aptDescription;
+    private String aptStatus;
+    private LocalDateTime aptCreatedAt;
+    private Double aptLatitude;
+    private Double aptLongitude;
+    private LocalDateTime aptUpdatedAt;
+
+    // Default constructor
+    public AdminApartment() {}
+
+    public static AdminApartment from(Apartment apartment) {
+        AdminApartment view = new AdminApartment();
+        view.aptId = apartment.getApartmentID();
+        view.aptType = apartment.getType();
+        view.aptPrice = apartment.getPrice() == null ? null
+                : BigDecimal.valueOf(apartment.getPrice()).setScale(2, RoundingMode.HALF_UP);
+        view.aptBedrooms = apartment.getBedrooms();
+        view.aptLocation = apartment.getLocation();
+        view.aptDescription = apartment.getDescription();
+        view.aptStatus = apartment.getStatus();
+        view.aptCreatedAt = apartment.getCreatedAt();
+        view.aptLatitude = apartment.getLatitude();
+        view.aptLongitude = apartment.getLongitude();
+        view.aptUpdatedAt = apartment.getUpdatedAt();
+        return view;
+    }
+
+    /** Copies the fields that were sent onto {@code apartment}; the id and timestamps stay with the entity. */
+    public void applyTo(Apartment apartment) {
+        if (aptType != null) apartment.setType(aptType);
+        if (aptPrice != null) apartment.setPrice(aptPrice.doubleValue());
+        if (aptBedrooms != null) apartment.setBedrooms(aptBedrooms);
+        if (aptLocation != null) apartment.setLocation(aptLocation);
+        if (aptDescription != null) apartment.setDescription(aptDescription);
+        if (aptStatus != null) apartment.setStatus(aptStatus);
+        if (aptLatitude != null) apartment.setLatitude(aptLatitude);
+        if (aptLongitude != null) apartment.setLongitude(aptLongitude);
+    }
+
+    // Getters and Setters
+    public Integer getAptId() { return aptId; }
+    public void setAptId(Integer aptId) { this.aptId = aptId; }
+
+    public String getAptType() { return aptType; }
+    public void setAptType(String aptType) { this.aptType = aptType; }
+
+    public BigDecimal getAptPrice() { return aptPrice; }
+    public void setAptPrice(BigDecimal aptPrice) { this.aptPrice = aptPrice; }
+
+    public Integer getAptBedrooms() { return aptBedrooms; }
+    public void setAptBedrooms(Integer aptBedrooms) { this.aptBedrooms = aptBedrooms; }
+
+    public String getAptLocation() { return aptLocation; }
+    public void setAptLocation(String aptLocation) { this.aptLocation = aptLocation; }
+
+    public String getAptDescription() { return aptDescription; }
+    public void setAptDescription(String aptDescription) { this.aptDescription = aptDescription; }
+
+    public String getAptStatus() { return aptStatus; }
+    public void setAptStatus(String aptStatus) { this.aptStatus = aptStatus; }
+
+    public LocalDateTime getAptCreatedAt() { return aptCreatedAt; }
+    public void setAptCreatedAt(LocalDateTime aptCreatedAt) { this.aptCreatedAt = aptCreatedAt; }
+
+    public Double getAptLatitude() { return aptLatitude; }
+    public void setAptLatitude(Double aptLatitude) { this.aptLatitude = aptLatitude; }
+
+    public Double getAptLongitude() { return aptLongitude; }
+    public void setAptLongitude(Double aptLongitude) { this.aptLongitude = aptLongitude; }
+
+    public LocalDateTime getAptUpdatedAt() { return aptUpdatedAt; }
+    public void setAptUpdatedAt(LocalDateTime aptUpdatedAt) { this.aptUpdatedAt = aptUpdatedAt; }
+}
@@ -0,0 +1,88 @@
+package com.propertyhub.admin.dto;
+
+import com.propertyhub.payment.entity.RentPayment;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Admin view of a {@link RentPayment}, with amounts as decimals to the column's two places.
+ */
+public class AdminRentPayment {
+    private Integer paymentID;
+    private Long userID;
+    private Integer apartmentID;
+    private String paymentType;
+    private String cardNumber;
+    private String nameOnCard;
+    private Integer months;
+    private BigDecimal monthlyRent;
+    private BigDecimal totalAmount;
+    private String status;
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public AdminRentPayment() {}
+
+    public static AdminRentPayment from(RentPayment payment) {
+        AdminRentPayment view = new AdminRentPayment();
+        view.paymentID = payment.getPaymentID();
+        view.userID = payment.getUserID();
+        view.apartmentID = payment.getApartmentID();
+        view.paymentType = payment.getPaymentType();
+        view.cardNumber = payment.getCardNumber();
+        view.nameOnCard = payment.getNameOnCard();
+        view.months = payment.getMonths();
+        view.monthlyRent = money(payment.getMonthlyRent());
+        view.totalAmount = money(payment.getTotalAmount());
+        view.status = payment.getStatus();
+        view.createdAt = payment.getCreatedAt();
+        return view;
+    }
+
+    public RentPayment toEntity() {
+        return new RentPayment(userID, apartmentID, paymentType, cardNumber, nameOnCard, months,
+                monthlyRent == null ? null : monthlyRent.doubleValue(),
+                totalAmount == null ? null : totalAmount.doubleValue(),
+                status == null ? "PENDING" : status);
+    }
+
+    private static BigDecimal money(Double amount) {
+        return amount == null ? null : BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Getters and Setters
+    public Integer getPaymentID() { return paymentID; }
+    public void setPaymentID(Integer paymentID) { this.paymentID = paymentID; }
+
+    public Long getUserID() { return userID; }
+    public void setUserID(Long userID) { this.userID = userID; }
+
+    public Integer getApartmentID() { return apartmentID; }
+    public void setApartmentID(Integer apartmentID) { this.apartmentID = apartmentID; }
+
+    public String getPaymentType() { return paymentType; }
+    public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
+
+    public String getCardNumber() { return cardNumber; }
+    public void setCardNumber(String cardNumber) { this.cardNumber = cardNumber; }
+
+    public String getNameOnCard() { return nameOnCard; }
+    public void setNameOnCard(String nameOnCard) { this.nameOnCard = nameOnCard; }
+
+    public Integer getMonths() { return months; }
+    public void setMonths(Integer months) { this.months = months; }
+
+    public BigDecimal getMonthlyRent() { return monthlyRent; }
+    public void setMonthlyRent(BigDecimal monthlyRent) { this.monthlyRent = monthlyRent; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,41 +1,35 @@
-package com.propertyhub.admin.entity;
+package com.propertyhub.admin.dto;
 
-import jakarta.persistence.*;
-import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.propertyhub.auth.entity.User;
 
-@Entity
-@Table(name = "Users")
-public class User1 {
+import java.time.LocalDateTime;
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "userID")
+/**
+ * Admin view of a {@link User}. The password can be sent on create and update but is never returned.
+ */
+public class AdminUser {
     private Long userId;
-
-    @Column(name = "name", nullable = false)
     private String name;
-
-    @Column(name = "email", nullable = false, unique = true)
     private String email;
-
-    @Column(name = "phone")
     private String phone;
 
-    @Column(name = "password", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
-    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    // Constructors
-    public User1() {}
-
-    public User1(String name, String email, String phone, String password) {
-        this.name = name;
-        this.email = email;
-        this.phone = phone;
-        this.password = password;
-        this.createdAt = LocalDateTime.now();
+    // Default constructor
+    public AdminUser() {}
+
+    public static AdminUser from(User user) {
+        AdminUser view = new AdminUser();
+        view.userId = user.getUserID();
+        view.name = user.getName();
+        view.email = user.getEmail();
+        view.phone = user.getPhone();
+        view.createdAt = user.getCreatedAt();
+        return view;
     }
 
     // Getters and Setters
@@ -56,4 +50,4 @@ public class User1 {
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
-}
\ No newline at end of file
+}
@@ -1,154 +0,0 @@
-package com.propertyhub.admin.entity;
-
-import jakarta.persistence.*;
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "RentPayments")
-public class AdminRentPayment {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Integer paymentID;
-
-    @Column(nullable = false)
-    private Integer userID;
-
-    @Column(nullable = false)
-    private Integer apartmentID;
-
-    @Column(nullable = false, length = 50)
-    private String paymentType;
-
-    @Column(nullable = false, length = 50)
-    private String cardNumber;
-
-    @Column(nullable = false, length = 100)
-    private String nameOnCard;
-
-    @Column(nullable = false)
-    private Integer months;
-
-    @Column(nullable = false, precision = 12, scale = 2)
-    private BigDecimal monthlyRent;
-
-    @Column(nullable = false, precision = 12, scale = 2)
-    private BigDecimal totalAmount;
-
-    @Column(length = 20)
-    private String status = "PENDING";
-
-    @Column(name = "created_at")
-    private LocalDateTime createdAt;
-
-    @PrePersist
-    protected void onCreate() {
-        createdAt = LocalDateTime.now();
-    }
-
-    // Constructors
-    public AdminRentPayment() {}
-
-    public AdminRentPayment(Integer userID, Integer apartmentID, String paymentType,
-                            String cardNumber, String nameOnCard, Integer months,
-                            BigDecimal monthlyRent, BigDecimal totalAmount) {
-        this.userID = userID;
-        this.apartmentID = apartmentID;
-        this.paymentType = paymentType;
-        this.cardNumber = cardNumber;
-        this.nameOnCard = nameOnCard;
-        this.months = months;
-        this.monthlyRent = monthlyRent;
-        this.totalAmount = totalAmount;
-    }
-
-    // Getters and Setters
-    public Integer getPaymentID() {
-        return paymentID;
-    }
-
-    public void setPaymentID(Integer paymentID) {
-        this.paymentID = paymentID;
-    }
-
-    public Integer getUserID() {
-        return userID;
-    }
-
-    public void setUserID(Integer userID) {
-        this.userID = userID;
-    }
-
-    public Integer getApartmentID() {
-        return apartmentID;
-    }
-
-    public void setApartmentID(Integer apartmentID) {
-        this.apartmentID = apartmentID;
-    }
-
-    public String getPaymentType() {
-        return paymentType;
-    }
-
-    public void setPaymentType(String paymentType) {
-        this.paymentType = paymentType;
-    }
-
-    public String getCardNumber() {
-        return cardNumber;
-    }
-
-    public void setCardNumber(String cardNumber) {
-        this.cardNumber = cardNumber;
-    }
-
-    public String getNameOnCard() {
-        return nameOnCard;
-    }
-
-    public void setNameOnCard(String nameOnCard) {
-        this.nameOnCard = nameOnCard;
-    }
-
-    public Integer getMonths() {
-        return months;
-    }
-
-    public void setMonths(Integer months) {
-        this.months = months;
-    }
-
-    public BigDecimal getMonthlyRent() {
-        return monthlyRent;
-    }
-
-    public void setMonthlyRent(BigDecimal monthlyRent) {
-        this.monthlyRent = monthlyRent;
-    }
-
-    public BigDecimal getTotalAmount() {
-        return totalAmount;
-    }
-
-    public void setTotalAmount(BigDecimal totalAmount) {
-        this.totalAmount = totalAmount;
-    }
-
-    public String getStatus() {
-        return status;
-    }
-
-    public void setStatus(String status) {
-        this.status = status;
-    }
-
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-}
\ No newline at end of file
@@ -1,65 +1,71 @@
 package com.propertyhub.admin.service;
 
-import com.propertyhub.admin.entity.AdminRentPayment;
-import com.propertyhub.admin.repository.AdminRentRepository;
+import com.propertyhub.admin.dto.AdminRentPayment;
+import com.propertyhub.payment.entity.RentPayment;
+import com.propertyhub.payment.repository.RentPaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class AdminRentService {
 
-    private final AdminRentRepository adminRentRepository;
+    private final RentPaymentRepository rentPaymentRepository;
 
     @Autowired
-    public AdminRentService(AdminRentRepository adminRentRepository) {
-        this.adminRentRepository = adminRentRepository;
+    public AdminRentService(RentPaymentRepository rentPaymentRepository) {
+        this.rentPaymentRepository = rentPaymentRepository;
     }
 
     // Get all payments
     public List<AdminRentPayment> getAllPayments() {
-        return adminRentRepository.findAll();
+        return rentPaymentRepository.findAll().stream().map(AdminRentPayment::from).toList();
     }
 
     // Get payment by ID
     public Optional<AdminRentPayment> getPaymentById(Integer id) {
-        return adminRentRepository.findById(id);
+        return rentPaymentRepository.findById(id).map(AdminRentPayment::from);
     }
 
     // Create new payment
+    @Transactional
     public AdminRentPayment createPayment(AdminRentPayment payment) {
-        return adminRentRepository.save(payment);
+        return AdminRentPayment.from(rentPaymentRepository.save(payment.toEntity()));
     }
 
     // Update payment
+    @Transactional
     public AdminRentPayment updatePayment(Integer id, AdminRentPayment paymentDetails) {
-        AdminRentPayment payment = getPaymentById(id)
+        RentPayment payment = rentPaymentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Payment not found"));
 
         if (paymentDetails.getTotalAmount() != null) {
-            payment.setTotalAmount(paymentDetails.getTotalAmount());
+            payment.setTotalAmount(paymentDetails.getTotalAmount().doubleValue());
         }
         if (paymentDetails.getStatus() != null) {
             payment.setStatus(paymentDetails.getStatus());
         }
         // Add more update fields if needed
 
-        return adminRentRepository.save(payment);
+        return AdminRentPayment.from(rentPaymentRepository.save(payment));
     }
 
     // Delete payment
+    @Transactional
     public void deletePayment(Integer id) {
-        AdminRentPayment payment = getPaymentById(id)
+        RentPayment payment = rentPaymentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Payment not found"));
-        adminRentRepository.delete(payment);
+        rentPaymentRepository.delete(payment);
     }
 
     // Get payments by status
     public List<AdminRentPayment> getPaymentsByStatus(String status) {
-        return adminRentRepository.findByStatus(status);
+        return rentPaymentRepository.findByStatus(status).stream().map(AdminRentPayment::from).toList();
     }
 
     // Get total revenue (sum of totalAmount for all COMPLETED payments)
@@ -70,7 +76,7 @@ public class AdminRentService {
 
     // Get count of completed payments
     public Long getCompletedPaymentsCount() {
-        return adminRentRepository.countByStatus("COMPLETED");
+        return rentPaymentRepository.countByStatus("COMPLETED");
     }
 
     // Calculate total revenue from a specific list (for filtered analytics)
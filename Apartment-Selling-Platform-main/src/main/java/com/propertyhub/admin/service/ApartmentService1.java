@@ -1,79 +1,94 @@
 package com.propertyhub.admin.service;
 
-import com.propertyhub.admin.entity.Apartment1;
-import com.propertyhub.admin.repository.ApartmentRepository1;
+import com.propertyhub.admin.dto.AdminApartment;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.observer.ApartmentEvent;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.apartment.service.ApartmentService;
+import com.propertyhub.apartment.service.ApartmentSyncService;
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.service.OutboxService;
 import com.propertyhub.payment.repository.RentPaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class ApartmentService1 {
 
     @Autowired
-    private ApartmentRepository1 apartmentRepository1;
+    private ApartmentRepository apartmentRepository;
 
     @Autowired
     private RentPaymentRepository rentPaymentRepository;
 
-    public List<Apartment1> getAllApartments() {
-        return apartmentRepository1.findAll();
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApartmentSyncService apartmentSyncService;
+
+    public List<AdminApartment> getAllApartments() {
+        return apartmentRepository.findAll().stream().map(AdminApartment::from).toList();
     }
 
-    public Apartment1 getApartmentById(Integer id) {
-        Optional<Apartment1> apartment = apartmentRepository1.findById(id);
-        return apartment.orElseThrow(() -> new RuntimeException("Apartment not found with id: " + id));
+    public AdminApartment getApartmentById(Integer id) {
+        return AdminApartment.from(findApartment(id));
     }
 
-    public Apartment1 createApartment(Apartment1 apartment) {
+    @Transactional
+    public AdminApartment createApartment(AdminApartment details) {
+        Apartment apartment = new Apartment();
+        details.applyTo(apartment);
         // Set default values if not provided
-        if (apartment.getAptStatus() == null) {
-            apartment.setAptStatus("AVAILABLE");
+        if (apartment.getStatus() == null) {
+            apartment.setStatus("AVAILABLE");
         }
-        if (apartment.getAptCreatedAt() == null) {
-            apartment.setAptCreatedAt(java.time.LocalDateTime.now());
-        }
-        return apartmentRepository1.save(apartment);
+        apartment.setCreatedAt(details.getAptCreatedAt() != null ? details.getAptCreatedAt() : LocalDateTime.now());
+        Apartment saved = apartmentRepository.save(apartment);
+        // Admin listings go through the same observers as public ones (notifications, search index)
+        outboxService.record(OutboxEvent.AGGREGATE_APARTMENT, saved.getApartmentID(), ApartmentEvent.Type.CREATED.name(), saved);
+        return AdminApartment.from(saved);
     }
 
-    public Apartment1 updateApartment(Integer id, Apartment1 apartmentDetails) {
-        Apartment1 existingApartment = getApartmentById(id);
+    @Transactional
+    public AdminApartment updateApartment(Integer id, AdminApartment details) {
+        Apartment existingApartment = findApartment(id);
+        Long owner = ApartmentService.extractOwnerFromDescription(existingApartment.getDescription());
 
         // Update only provided fields
-        if (apartmentDetails.getAptType() != null) {
-            existingApartment.setAptType(apartmentDetails.getAptType());
-        }
-        if (apartmentDetails.getAptPrice() != null) {
-            existingApartment.setAptPrice(apartmentDetails.getAptPrice());
-        }
-        if (apartmentDetails.getAptBedrooms() != null) {
-            existingApartment.setAptBedrooms(apartmentDetails.getAptBedrooms());
-        }
-        if (apartmentDetails.getAptLocation() != null) {
-            existingApartment.setAptLocation(apartmentDetails.getAptLocation());
-        }
-        if (apartmentDetails.getAptDescription() != null) {
-            existingApartment.setAptDescription(apartmentDetails.getAptDescription());
-        }
-        if (apartmentDetails.getAptStatus() != null) {
-            existingApartment.setAptStatus(apartmentDetails.getAptStatus());
+        details.applyTo(existingApartment);
+        // A new description keeps the listing with its owner
+        if (details.getAptDescription() != null && owner != null) {
+            existingApartment.setDescription(ApartmentService.embedOwnerInDescription(details.getAptDescription(), owner));
         }
 
-        return apartmentRepository1.save(existingApartment);
+        Apartment saved = apartmentRepository.save(existingApartment);
+        outboxService.record(OutboxEvent.AGGREGATE_APARTMENT, saved.getApartmentID(), ApartmentEvent.Type.UPDATED.name(), saved);
+        return AdminApartment.from(saved);
     }
 
     @Transactional
     public boolean deleteApartment(Integer id) {
-        if (!apartmentRepository1.existsById(id)) {
+        if (!apartmentRepository.existsById(id)) {
             return false;
         }
         // Delete all rent payments associated with this apartment first to avoid foreign key constraint violation
         rentPaymentRepository.deleteByApartmentID(id);
         // Then delete the apartment
-        apartmentRepository1.deleteById(id);
+        apartmentRepository.deleteById(id);
+        apartmentSyncService.recordDeletion(id);
+        outboxService.record(OutboxEvent.AGGREGATE_APARTMENT, id, ApartmentEvent.Type.REMOVED.name(), id);
         return true;
     }
-}
\ No newline at end of file
+
+    private Apartment findApartment(Integer id) {
+        Optional<Apartment> apartment = apartmentRepository.findById(id);
+        return apartment.orElseThrow(() -> new RuntimeException("Apartment not found with id: " + id));
+    }
+}
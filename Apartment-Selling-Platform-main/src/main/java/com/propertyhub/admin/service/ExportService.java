@@ -0,0 +1,279 @@
+package com.propertyhub.admin.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.apartment.service.ApartmentService;
+import com.propertyhub.datasource.ReplicaDataSource;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams whole tables out as CSV or NDJSON for admins.
+ *
+ * Rows are read through a forward-only JDBC cursor (the SQL Server driver's adaptive buffering pulls them from the
+ * server as they are consumed) and written to the response one at a time, so memory does not depend on table size.
+ * Each export holds a connection for as long as the client takes to download it, so only a few run at once,
+ * and they read from a replica when one is configured.
+ * Card numbers are cut to their last four digits and passwords are never read.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    @FunctionalInterface
+    private interface RowExtractor {
+        Object[] extract(ResultSet rs) throws SQLException;
+    }
+
+    private record Dataset(String sql, List<String> columns, RowExtractor extractor) {}
+
+    // Apartment columns follow the bulk import's field names, so an export can be loaded back in
+    private static final Map<String, Dataset> DATASETS = Map.of(
+            "apartments", new Dataset(
+                    "SELECT apartmentID, type, price, bedrooms, location, description, status, latitude, longitude, "
+                            + "created_at, updated_at FROM Apartments ORDER BY apartmentID",
+                    List.of("apartmentID", "type", "price", "bedrooms", "location", "description", "userId", "status",
+                            "latitude", "longitude", "createdAt", "updatedAt"),
+                    rs -> {
+                        String description = rs.getString("description");
+                        return new Object[] {
+                                rs.getInt("apartmentID"), rs.getString("type"), rs.getBigDecimal("price"),
+                                rs.getInt("bedrooms"), rs.getString("location"),
+                                ApartmentService.stripOwnerFromDescription(description),
+                                ApartmentService.extractOwnerFromDescription(description), rs.getString("status"),
+                                rs.getObject("latitude"), rs.getObject("longitude"),
+                                rs.getTimestamp("created_at"), rs.getTimestamp("updated_at")
+                        };
+                    }),
+            "users", new Dataset(
+                    "SELECT userID, name, email, phone, created_at FROM Users ORDER BY userID",
+                    List.of("userId", "name", "email", "phone", "createdAt"),
+                    rs -> new Object[] {
+                            rs.getInt("userID"), rs.getString("name"), rs.getString("email"), rs.getString("phone"),
+                            rs.getTimestamp("created_at")
+                    }),
+            "payments", new Dataset(
+                    "SELECT paymentID, userID, apartmentID, paymentType, RIGHT(cardNumber, 4) AS cardLast4, nameOnCard, "
+                            + "months, monthlyRent, totalAmount, status, created_at FROM RentPayments ORDER BY paymentID",
+                    List.of("paymentID", "userID", "apartmentID", "paymentType", "cardLast4", "nameOnCard", "months",
+                            "monthlyRent", "totalAmount", "status", "createdAt"),
+                    rs -> new Object[] {
+                            rs.getInt("paymentID"), rs.getInt("userID"), rs.getInt("apartmentID"),
+                            rs.getString("paymentType"), rs.getString("cardLast4"), rs.getString("nameOnCard"),
+                            rs.getInt("months"), rs.getBigDecimal("monthlyRent"), rs.getBigDecimal("totalAmount"),
+                            rs.getString("status"), rs.getTimestamp("created_at")
+                    }),
+            "purchases", new Dataset(
+                    "SELECT purchaseID, userID, apartmentID, paymentType, RIGHT(cardNumber, 4) AS cardLast4, nameOnCard, "
+                            + "offerAmount, askingPrice, status, created_at FROM BuyPayments ORDER BY purchaseID",
+                    List.of("purchaseID", "userID", "apartmentID", "paymentType", "cardLast4", "nameOnCard",
+                            "offerAmount", "askingPrice", "status", "createdAt"),
+                    rs -> new Object[] {
+                            rs.getInt("purchaseID"), rs.getInt("userID"), rs.getInt("apartmentID"),
+                            rs.getString("paymentType"), rs.getString("cardLast4"), rs.getString("nameOnCard"),
+                            rs.getBigDecimal("offerAmount"), rs.getBigDecimal("askingPrice"), rs.getString("status"),
+                            rs.getTimestamp("created_at")
+                    }));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectProvider<ReplicaDataSource> replicaDataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${admin.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${admin.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private JdbcTemplate jdbcTemplate;
+    private Semaphore running;
+
+    @PostConstruct
+    public void init() {
+        ReplicaDataSource replicas = replicaDataSource.getIfAvailable();
+        DataSource source = replicas != null ? replicas : dataSource;
+        jdbcTemplate = new JdbcTemplate(source);
+        jdbcTemplate.setFetchSize(fetchSize);
+        running = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    public static boolean isDataset(String name) {
+        return DATASETS.containsKey(name);
+    }
+
+    /** Claims one of the export slots; false when all are busy. Every true must be matched by {@link #release()}. */
+    public boolean tryAcquire() {
+        return running.tryAcquire();
+    }
+
+    public void release() {
+        running.release();
+    }
+
+    /** Writes every row of the dataset to {@code out}; an IOException means the client went away. */
+    public void export(String name, String format, boolean gzip, OutputStream out) throws IOException {
+        Dataset dataset = DATASETS.get(name);
+        long started = System.nanoTime();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 1 << 16) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 1 << 16);
+        RowWriter rows = FORMAT_NDJSON.equals(format) ? new NdjsonRowWriter(writer, dataset.columns())
+                : new CsvRowWriter(writer, dataset.columns());
+        long[] count = {0};
+        try {
+            rows.start();
+            jdbcTemplate.query(dataset.sql(), (RowCallbackHandler) rs -> {
+                try {
+                    rows.write(dataset.extractor().extract(rs));
+                    count[0]++;
+                } catch (IOException e) {
+                    // Unwound out of the cursor so JdbcTemplate closes it and returns the connection
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rows.finish();
+            writer.flush();
+            if (target instanceof GZIPOutputStream compressed) compressed.finish();
+        } catch (UncheckedIOException e) {
+            log.atInfo().setMessage("export abandoned by client")
+                    .addKeyValue("dataset", name)
+                    .addKeyValue("rows", count[0])
+                    .log();
+            throw e.getCause();
+        }
+        log.atInfo().setMessage("export finished")
+                .addKeyValue("dataset", name)
+                .addKeyValue("format", format)
+                .addKeyValue("gzip", gzip)
+                .addKeyValue("rows", count[0])
+                .addKeyValue("tookMs", (System.nanoTime() - started) / 1_000_000)
+                .log();
+    }
+
+    private interface RowWriter {
+        void start() throws IOException;
+
+        void write(Object[] values) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final List<String> columns;
+
+        CsvRowWriter(Writer writer, List<String> columns) {
+            this.writer = writer;
+            this.columns = columns;
+        }
+
+        @Override
+        public void start() throws IOException {
+            write(columns.toArray());
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writer.write(',');
+                writeField(text(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() {}
+
+        private void writeField(String value) throws IOException {
+            if (value == null) return;
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+
+        NdjsonRowWriter(Writer writer, List<String> columns) throws IOException {
+            this.generator = objectMapper.createGenerator(writer);
+            this.columns = columns;
+        }
+
+        @Override
+        public void start() {}
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                String field = columns.get(i);
+                if (value == null) generator.writeNullField(field);
+                else if (value instanceof Integer number) generator.writeNumberField(field, number);
+                else if (value instanceof Long number) generator.writeNumberField(field, number);
+                else if (value instanceof Double number) generator.writeNumberField(field, number);
+                else if (value instanceof BigDecimal number) generator.writeNumberField(field, number);
+                else generator.writeStringField(field, text(value));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            // Leaves the underlying writer open; the caller flushes it
+            generator.flush();
+        }
+    }
+
+    // Timestamps as ISO local date-times, decimals without exponents
+    private static String text(Object value) {
+        if (value == null) return null;
+        if (value instanceof Timestamp timestamp) return timestamp.toLocalDateTime().toString();
+        if (value instanceof BigDecimal decimal) return decimal.toPlainString();
+        return value.toString();
+    }
+}
@@ -1,37 +1,62 @@
 package com.propertyhub.admin.service;
 
 
-import com.propertyhub.admin.entity.User1;
-import com.propertyhub.admin.repository.User1Repository;
+import com.propertyhub.admin.dto.AdminUser;
+import com.propertyhub.apartment.service.SavedSearchService;
+import com.propertyhub.auth.entity.User;
+import com.propertyhub.auth.repository.UserRepository;
+import com.propertyhub.cache.ContentVersions;
+import com.propertyhub.review.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class User1Service {
 
     @Autowired
-    private User1Repository userRepository;
+    private UserRepository userRepository;
 
-    public List<User1> getAllUsers() {
-        return userRepository.findAllOrderByCreatedAtDesc();
+    @Autowired
+    private ContentVersions contentVersions;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    public List<AdminUser> getAllUsers() {
+        return userRepository.findAllByOrderByCreatedAtDesc().stream().map(AdminUser::from).toList();
     }
 
-    public Optional<User1> getUserById(Long id) {
-        return userRepository.findById(id);
+    public Optional<AdminUser> getUserById(Long id) {
+        return userRepository.findById(id).map(AdminUser::from);
     }
 
-    public User1 createUser(User1 user) {
+    @Transactional
+    public AdminUser createUser(AdminUser details) {
         // Check if email already exists
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email already exists: " + user.getEmail());
+        if (userRepository.existsByEmail(details.getEmail())) {
+            throw new RuntimeException("Email already exists: " + details.getEmail());
+        }
+        User user = new User();
+        user.setName(details.getName());
+        user.setEmail(details.getEmail());
+        user.setPhone(details.getPhone());
+        user.setPassword(details.getPassword());
+        if (details.getCreatedAt() != null) {
+            user.setCreatedAt(details.getCreatedAt());
         }
-        return userRepository.save(user);
+        return AdminUser.from(userRepository.save(user));
     }
 
-    public User1 updateUser(Long id, User1 userDetails) {
-        User1 user = userRepository.findById(id)
+    @Transactional
+    public AdminUser updateUser(Long id, AdminUser userDetails) {
+        User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
 
         // Check if email is being changed and if it already exists
@@ -49,16 +74,22 @@ public class User1Service {
             user.setPassword(userDetails.getPassword());
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // Review responses show the author's name
+        contentVersions.changed(ContentVersions.REVIEWS);
+        return AdminUser.from(saved);
     }
 
+    @Transactional
     public void deleteUser(Long id) {
-        User1 user = userRepository.findById(id)
+        User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        reviewService.deleteUserReviews(id);
+        savedSearchService.deleteUserSavedSearches(id);
         userRepository.delete(user);
     }
 
-    public List<User1> searchUsers(String searchTerm) {
-        return userRepository.findByNameContainingIgnoreCase(searchTerm);
+    public List<AdminUser> searchUsers(String searchTerm) {
+        return userRepository.findByNameContainingIgnoreCase(searchTerm).stream().map(AdminUser::from).toList();
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,28 @@
 package com.propertyhub.apartment.controller;
 
+import com.propertyhub.apartment.dto.ApartmentChanges;
 import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.geo.GazetteerGeocoder;
+import com.propertyhub.apartment.geo.GeoPoint;
+import com.propertyhub.apartment.observer.ApartmentNotificationService;
+import com.propertyhub.apartment.search.ApartmentGeoIndex;
+import com.propertyhub.apartment.search.ApartmentQuery;
+import com.propertyhub.apartment.search.ApartmentSearchIndex;
+import com.propertyhub.apartment.search.ApartmentSearchResult;
+import com.propertyhub.apartment.search.LocationSuggestIndex;
 import com.propertyhub.apartment.service.ApartmentService;
+import com.propertyhub.apartment.service.ApartmentSyncService;
+import com.propertyhub.apartment.stream.ApartmentChangeStream;
 import com.propertyhub.apartment.strategy.ApartmentSortingContext;
+import com.propertyhub.apartment.strategy.DistanceSortingStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -22,11 +39,164 @@ public class ApartmentController {
     @Autowired
     private ApartmentSortingContext sortingContext;
 
+    @Autowired
+    private ApartmentSearchIndex apartmentSearchIndex;
+
+    @Autowired
+    private LocationSuggestIndex locationSuggestIndex;
+
+    @Autowired
+    private ApartmentGeoIndex apartmentGeoIndex;
+
+    @Autowired
+    private GazetteerGeocoder geocoder;
+
+    @Autowired
+    private ApartmentNotificationService apartmentNotificationService;
+
+    @Autowired
+    private ApartmentChangeStream apartmentChangeStream;
+
+    @Autowired
+    private ApartmentSyncService apartmentSyncService;
+
     @GetMapping
-    public ResponseEntity<List<Apartment>> getAllApartments(@RequestParam(value = "sortBy", required = false) String sortBy) {
+    public ResponseEntity<List<Apartment>> getAllApartments(
+            @RequestParam(value = "sortBy", required = false) String sortBy,
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lon", required = false) Double lon,
+            @RequestParam(value = "near", required = false) String near,
+            WebRequest webRequest) {
+        // The body only changes with the catalogue version, so a matching If-None-Match skips the load entirely.
+        // Weak, because Tomcat leaves responses with a strong ETag uncompressed.
+        String etag = "W/\"" + apartmentSyncService.catalogueVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) return null;
         List<Apartment> apartments = apartmentService.getAllApartments();
-        List<Apartment> sorted = sortingContext.sort(apartments, sortBy);
-        return ResponseEntity.ok(sorted);
+        if ("distance".equalsIgnoreCase(sortBy)) {
+            GeoPoint origin = resolveOrigin(lat, lon, near);
+            if (origin == null) return ResponseEntity.badRequest().build();
+            apartments = new DistanceSortingStrategy(origin, apartmentGeoIndex::locate).sort(apartments);
+        } else {
+            apartments = sortingContext.sort(apartments, sortBy);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(apartments);
+    }
+
+    /**
+     * Listings added, updated or deleted since a cursor from an earlier call (omit it for the whole catalogue).
+     * Keep calling with the returned cursor while hasMore is true.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApartmentChanges> getChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+        return ResponseEntity.ok(apartmentSyncService.changesSince(Math.max(0, since), Math.max(1, Math.min(limit, 1000))));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<Map<String, Object>> getNearbyApartments(
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lon", required = false) Double lon,
+            @RequestParam(value = "near", required = false) String near,
+            @RequestParam(value = "radiusKm", defaultValue = "5") double radiusKm,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        GeoPoint origin = resolveOrigin(lat, lon, near);
+        if (origin == null || !(radiusKm > 0)) {
+            response.put("success", false);
+            response.put("message", "Provide lat and lon (or a known place in near) and a positive radiusKm");
+            return ResponseEntity.badRequest().body(response);
+        }
+        ApartmentGeoIndex.RadiusResult result = apartmentGeoIndex.within(
+                origin, Math.min(radiusKm, 500), Math.max(1, Math.min(limit, 500)));
+        response.put("success", true);
+        response.put("origin", origin);
+        response.put("total", result.total());
+        response.put("results", result.results());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/nearest")
+    public ResponseEntity<Map<String, Object>> getNearestApartments(
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lon", required = false) Double lon,
+            @RequestParam(value = "near", required = false) String near,
+            @RequestParam(value = "k", defaultValue = "10") int k) {
+        Map<String, Object> response = new HashMap<>();
+        GeoPoint origin = resolveOrigin(lat, lon, near);
+        if (origin == null) {
+            response.put("success", false);
+            response.put("message", "Provide lat and lon (or a known place in near)");
+            return ResponseEntity.badRequest().body(response);
+        }
+        response.put("success", true);
+        response.put("origin", origin);
+        response.put("results", apartmentGeoIndex.nearest(origin, Math.max(1, Math.min(k, 100))));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/notifications/stats")
+    public ResponseEntity<Map<String, Map<String, Long>>> getNotificationStats() {
+        return ResponseEntity.ok(apartmentNotificationService.getDispatchStats());
+    }
+
+    /**
+     * Live listing changes as Server-Sent Events (listing-added, listing-updated, listing-removed).
+     * Load the list once, then apply events; a resync event means the gap was too long and the list should be reloaded.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = apartmentChangeStream.subscribe(lastEventId);
+        if (emitter == null) return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+
+    // Explicit coordinates win; otherwise the place name is looked up in the gazetteer
+    private GeoPoint resolveOrigin(Double lat, Double lon, String near) {
+        try {
+            GeoPoint point = GeoPoint.of(lat, lon);
+            if (point != null) return point;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return geocoder.geocode(near).orElse(null);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApartmentSearchResult> searchApartments(
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "minPrice", required = false) Double minPrice,
+            @RequestParam(value = "maxPrice", required = false) Double maxPrice,
+            @RequestParam(value = "minBedrooms", required = false) Integer minBedrooms,
+            @RequestParam(value = "maxBedrooms", required = false) Integer maxBedrooms,
+            @RequestParam(value = "sortBy", required = false) String sortBy,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        ApartmentQuery query = new ApartmentQuery();
+        query.setType(type);
+        query.setStatus(status);
+        query.setLocation(location);
+        query.setMinPrice(minPrice);
+        query.setMaxPrice(maxPrice);
+        query.setMinBedrooms(minBedrooms);
+        query.setMaxBedrooms(maxBedrooms);
+        query.setSortBy(sortBy);
+        query.setPage(Math.max(0, page));
+        query.setSize(Math.max(1, Math.min(size, 100)));
+        return ResponseEntity.ok(apartmentSearchIndex.search(query));
+    }
+
+    @GetMapping("/locations/suggest")
+    public ResponseEntity<Map<String, Object>> suggestLocations(
+            @RequestParam(value = "prefix", defaultValue = "") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("suggestions", locationSuggestIndex.suggest(prefix, Math.max(1, Math.min(limit, 50))));
+        response.put("totalListings", locationSuggestIndex.countWithPrefix(prefix));
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/add")
@@ -56,6 +226,8 @@ public class ApartmentController {
                     description,
                     "AVAILABLE"
             );
+            apartment.setLatitude(ApartmentService.parseCoordinate(apartmentData.get("latitude")));
+            apartment.setLongitude(ApartmentService.parseCoordinate(apartmentData.get("longitude")));
             Apartment savedApartment = apartmentService.addApartment(apartment);
 
             response.put("success", true);
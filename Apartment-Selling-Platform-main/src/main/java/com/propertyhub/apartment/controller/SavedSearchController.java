@@ -0,0 +1,78 @@
+package com.propertyhub.apartment.controller;
+
+import com.propertyhub.apartment.entity.SavedSearch;
+import com.propertyhub.apartment.service.SavedSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@CrossOrigin(origins = "*")
+public class SavedSearchController {
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> createSavedSearch(@RequestBody Map<String, Object> data) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            SavedSearch search = new SavedSearch();
+            search.setUserID(data.get("userId") == null ? null : Long.valueOf(data.get("userId").toString()));
+            search.setName(text(data.get("name")));
+            search.setType(text(data.get("type")));
+            search.setLocation(text(data.get("location")));
+            search.setMinPrice(number(data.get("minPrice")));
+            search.setMaxPrice(number(data.get("maxPrice")));
+            search.setMinBedrooms(integer(data.get("minBedrooms")));
+            search.setMaxBedrooms(integer(data.get("maxBedrooms")));
+
+            SavedSearch saved = savedSearchService.createSavedSearch(search);
+            response.put("success", true);
+            response.put("message", "Saved search created; new matching listings will be sent in your alert digest");
+            response.put("savedSearch", saved);
+            return ResponseEntity.ok(response);
+        } catch (NumberFormatException e) {
+            response.put("success", false);
+            response.put("message", "Invalid number: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (RuntimeException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<SavedSearch>> getUserSavedSearches(@PathVariable Long userId) {
+        return ResponseEntity.ok(savedSearchService.getUserSavedSearches(userId));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> deleteSavedSearch(@PathVariable Long id, @RequestParam("userId") Long userId) {
+        Map<String, Object> response = new HashMap<>();
+        boolean deleted = savedSearchService.deleteSavedSearch(id, userId);
+        response.put("success", deleted);
+        response.put("message", deleted ? "Saved search deleted" : "Saved search not found or not owned by user");
+        return deleted ? ResponseEntity.ok(response) : ResponseEntity.status(404).body(response);
+    }
+
+    private static String text(Object value) {
+        return value == null || value.toString().isBlank() ? null : value.toString().trim();
+    }
+
+    private static Double number(Object value) {
+        String text = text(value);
+        return text == null ? null : Double.valueOf(text);
+    }
+
+    private static Integer integer(Object value) {
+        String text = text(value);
+        return text == null ? null : Integer.valueOf(text);
+    }
+}
@@ -0,0 +1,39 @@
+package com.propertyhub.apartment.dto;
+
+import com.propertyhub.apartment.entity.Apartment;
+
+import java.util.List;
+
+/**
+ * One page of the catalogue change feed. Pass {@code cursor} back as {@code since} to continue;
+ * when {@code hasMore} is false the client is up to date as of that cursor.
+ */
+public class ApartmentChanges {
+    private List<Apartment> upserts;
+    private List<Integer> deletes;
+    private long cursor;
+    private boolean hasMore;
+
+    // Default constructor
+    public ApartmentChanges() {}
+
+    public ApartmentChanges(List<Apartment> upserts, List<Integer> deletes, long cursor, boolean hasMore) {
+        this.upserts = upserts;
+        this.deletes = deletes;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<Apartment> getUpserts() { return upserts; }
+    public void setUpserts(List<Apartment> upserts) { this.upserts = upserts; }
+
+    public List<Integer> getDeletes() { return deletes; }
+    public void setDeletes(List<Integer> deletes) { this.deletes = deletes; }
+
+    public long getCursor() { return cursor; }
+    public void setCursor(long cursor) { this.cursor = cursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,78 @@
+package com.propertyhub.apartment.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk import. Only the first {@code maxErrors} row errors are kept, so a file that is
+ * wrong on every line still produces a small report; {@code failed} counts all of them.
+ */
+public class ApartmentImportResult {
+    private final String importId;
+    private final int maxErrors;
+    private long rows;
+    private long imported;
+    private long failed;
+    private Integer firstApartmentID;
+    private Integer lastApartmentID;
+    private boolean complete = true;
+    private boolean errorsTruncated;
+    private final List<Map<String, Object>> errors = new ArrayList<>();
+
+    public ApartmentImportResult(String importId, int maxErrors) {
+        this.importId = importId;
+        this.maxErrors = maxErrors;
+    }
+
+    public void rowRead() {
+        rows++;
+    }
+
+    public void imported(Integer apartmentID) {
+        imported++;
+        if (firstApartmentID == null || apartmentID < firstApartmentID) firstApartmentID = apartmentID;
+        if (lastApartmentID == null || apartmentID > lastApartmentID) lastApartmentID = apartmentID;
+    }
+
+    public void failed(long line, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("line", line);
+            error.put("message", message);
+            errors.add(error);
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    // The upload ended early (client went away, unreadable stream); rows before that point are kept
+    public void aborted(long line, String message) {
+        complete = false;
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("line", line);
+        error.put("message", message);
+        errors.add(error);
+    }
+
+    // Getters
+    public String getImportId() { return importId; }
+
+    public long getRows() { return rows; }
+
+    public long getImported() { return imported; }
+
+    public long getFailed() { return failed; }
+
+    public Integer getFirstApartmentID() { return firstApartmentID; }
+
+    public Integer getLastApartmentID() { return lastApartmentID; }
+
+    public boolean isComplete() { return complete; }
+
+    public List<Map<String, Object>> getErrors() { return errors; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+}
@@ -0,0 +1,43 @@
+package com.propertyhub.apartment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a bulk import added, published once to observers in place of an event per listing.
+ * Ids come from a pooled sequence, so the range can include listings written by others at the same time.
+ */
+public class ApartmentImportSummary {
+    private String importId;
+    private long imported;
+    private Integer firstApartmentID;
+    private Integer lastApartmentID;
+    private LocalDateTime completedAt;
+
+    // Default constructor
+    public ApartmentImportSummary() {}
+
+    public ApartmentImportSummary(String importId, long imported, Integer firstApartmentID, Integer lastApartmentID,
+                                  LocalDateTime completedAt) {
+        this.importId = importId;
+        this.imported = imported;
+        this.firstApartmentID = firstApartmentID;
+        this.lastApartmentID = lastApartmentID;
+        this.completedAt = completedAt;
+    }
+
+    // Getters and Setters
+    public String getImportId() { return importId; }
+    public void setImportId(String importId) { this.importId = importId; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public Integer getFirstApartmentID() { return firstApartmentID; }
+    public void setFirstApartmentID(Integer firstApartmentID) { this.firstApartmentID = firstApartmentID; }
+
+    public Integer getLastApartmentID() { return lastApartmentID; }
+    public void setLastApartmentID(Integer lastApartmentID) { this.lastApartmentID = lastApartmentID; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
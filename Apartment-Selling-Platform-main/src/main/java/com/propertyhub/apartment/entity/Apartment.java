@@ -1,13 +1,20 @@
 package com.propertyhub.apartment.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Apartments")
+// Second-level cache region; size and expiry are set in application.conf
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "apartment")
 public class Apartment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apartment_seq")
+    @SequenceGenerator(name = "apartment_seq", sequenceName = "ApartmentSeq", allocationSize = 50)
     @Column(name = "apartmentID")
     private Integer apartmentID;
 
@@ -32,6 +39,21 @@ public class Apartment {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Optional; listings without coordinates are placed by the gazetteer geocoder from their location
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // SQL Server ROWVERSION, maintained by the database; orders the delta sync feed and is never written from here
+    @JsonIgnore
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private byte[] rowVersion;
+
     // Constructors
     public Apartment() {}
 
@@ -45,6 +67,12 @@ public class Apartment {
         this.createdAt = LocalDateTime.now();
     }
 
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Integer getApartmentID() { return apartmentID; }
     public void setApartmentID(Integer apartmentID) { this.apartmentID = apartmentID; }
@@ -69,4 +97,15 @@ public class Apartment {
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public byte[] getRowVersion() { return rowVersion; }
 }
\ No newline at end of file
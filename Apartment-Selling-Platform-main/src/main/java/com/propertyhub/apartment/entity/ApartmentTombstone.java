@@ -0,0 +1,31 @@
+package com.propertyhub.apartment.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted listing so delta sync clients can drop it from their cache.
+ */
+@Entity
+@Table(name = "ApartmentTombstones")
+public class ApartmentTombstone {
+    @Id
+    @Column(name = "apartmentID")
+    private Integer apartmentID;
+
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    // Drawn from the same database counter as Apartments.row_version, so deletes interleave with upserts
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private byte[] rowVersion;
+
+    public ApartmentTombstone() {}
+
+    public Integer getApartmentID() { return apartmentID; }
+    public void setApartmentID(Integer apartmentID) { this.apartmentID = apartmentID; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+
+    public byte[] getRowVersion() { return rowVersion; }
+}
@@ -0,0 +1,85 @@
+package com.propertyhub.apartment.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Listing criteria a user wants to be alerted about. Any criterion left null matches everything.
+ */
+@Entity
+@Table(name = "SavedSearches", indexes = {
+        @Index(name = "IX_SavedSearches_User", columnList = "userID")
+})
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "savedSearchID")
+    private Long savedSearchID;
+
+    @Column(name = "userID", nullable = false)
+    private Long userID;
+
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "type", length = 50)
+    private String type;
+
+    @Column(name = "location", length = 200)
+    private String location;
+
+    @Column(name = "min_price")
+    private Double minPrice;
+
+    @Column(name = "max_price")
+    private Double maxPrice;
+
+    @Column(name = "min_bedrooms")
+    private Integer minBedrooms;
+
+    @Column(name = "max_bedrooms")
+    private Integer maxBedrooms;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean active = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public SavedSearch() {}
+
+    // Getters and Setters
+    public Long getSavedSearchID() { return savedSearchID; }
+    public void setSavedSearchID(Long savedSearchID) { this.savedSearchID = savedSearchID; }
+
+    public Long getUserID() { return userID; }
+    public void setUserID(Long userID) { this.userID = userID; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public Double getMinPrice() { return minPrice; }
+    public void setMinPrice(Double minPrice) { this.minPrice = minPrice; }
+
+    public Double getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(Double maxPrice) { this.maxPrice = maxPrice; }
+
+    public Integer getMinBedrooms() { return minBedrooms; }
+    public void setMinBedrooms(Integer minBedrooms) { this.minBedrooms = minBedrooms; }
+
+    public Integer getMaxBedrooms() { return maxBedrooms; }
+    public void setMaxBedrooms(Integer maxBedrooms) { this.maxBedrooms = maxBedrooms; }
+
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,104 @@
+package com.propertyhub.apartment.geo;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offline geocoder for free-text locations, backed by a CSV gazetteer of {@code name,latitude,longitude}.
+ *
+ * A location resolves to the most specific gazetteer entry it mentions: the whole string first, then each
+ * comma-separated part, then the longest run of words that names a place ("2BR near Kandy Lake" → Kandy).
+ * Stands in for a real geocoding service so existing listings can be placed without network calls.
+ */
+@Component
+public class GazetteerGeocoder {
+
+    private static final Logger log = LoggerFactory.getLogger(GazetteerGeocoder.class);
+
+    private static final int MAX_CACHED = 10_000;
+    private static final GeoPoint UNKNOWN = new GeoPoint(0, 0);
+
+    @Value("${apartment.geo.gazetteer:classpath:geo/gazetteer.csv}")
+    private Resource gazetteer;
+
+    private Map<String, GeoPoint> places = Map.of();
+    private int longestName;
+    private final Map<String, GeoPoint> cache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        Map<String, GeoPoint> loaded = new HashMap<>();
+        int longest = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(gazetteer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts.length != 3) continue;
+                try {
+                    String name = normalise(parts[0]);
+                    loaded.put(name, new GeoPoint(Double.parseDouble(parts[1].trim()), Double.parseDouble(parts[2].trim())));
+                    longest = Math.max(longest, name.split(" ").length);
+                } catch (NumberFormatException ignored) {
+                    // header or malformed row
+                }
+            }
+        } catch (Exception e) {
+            log.warn("gazetteer could not be loaded; listings without coordinates will not be placed", e);
+        }
+        places = loaded;
+        longestName = longest;
+        cache.clear();
+        log.atInfo().setMessage("gazetteer loaded").addKeyValue("places", loaded.size()).log();
+    }
+
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) return Optional.empty();
+        GeoPoint cached = cache.get(location);
+        if (cached == null) {
+            cached = lookup(location);
+            if (cache.size() < MAX_CACHED) cache.put(location, cached);
+        }
+        return cached == UNKNOWN ? Optional.empty() : Optional.of(cached);
+    }
+
+    private GeoPoint lookup(String location) {
+        String whole = normalise(location);
+        GeoPoint point = places.get(whole);
+        if (point != null) return point;
+
+        for (String part : location.split(",")) {
+            point = places.get(normalise(part));
+            if (point != null) return point;
+        }
+
+        String[] words = whole.split(" ");
+        for (int length = Math.min(longestName, words.length); length >= 1; length--) {
+            for (int start = 0; start + length <= words.length; start++) {
+                point = places.get(String.join(" ", Arrays.copyOfRange(words, start, start + length)));
+                if (point != null) return point;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    // Lower-case, accent-free, punctuation folded to single spaces ("Ja-Ela" and "ja ela" match)
+    private static String normalise(String text) {
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
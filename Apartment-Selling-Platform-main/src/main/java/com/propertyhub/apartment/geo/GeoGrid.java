@@ -0,0 +1,277 @@
+package com.propertyhub.apartment.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-size lat/lon grid (geohash-style bucketing) over integer ids.
+ *
+ * Radius queries visit only the cells overlapping the bounding box; nearest-k queries walk rings of cells
+ * outwards from the origin and stop once no unvisited cell can beat the current k-th distance. When a query
+ * would touch more cells than are occupied it walks the occupied cells instead, so sparse data stays cheap.
+ * Not thread-safe; callers guard access.
+ */
+public final class GeoGrid {
+
+    private static final double KM_PER_DEGREE = Math.PI * GeoPoint.EARTH_RADIUS_KM / 180;
+
+    public record Hit(int id, double distanceKm) {}
+
+    public record RadiusResult(List<Hit> hits, int totalMatches) {}
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+
+    private final Map<Long, int[]> cells = new HashMap<>();
+    private final Map<Long, Integer> cellSizes = new HashMap<>();
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+    private int[] ids = new int[64];
+    private double[] lats = new double[64];
+    private double[] lons = new double[64];
+    private long[] cellOf = new long[64];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    public GeoGrid(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    public int size() {
+        return slotById.size();
+    }
+
+    public void put(int id, double lat, double lon) {
+        remove(id);
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+        ids[slot] = id;
+        lats[slot] = lat;
+        lons[slot] = lon;
+        long cell = cellKey(latIndex(lat), lonIndex(lon));
+        cellOf[slot] = cell;
+        slotById.put(id, slot);
+
+        int size = cellSizes.getOrDefault(cell, 0);
+        int[] members = cells.get(cell);
+        if (members == null || members.length == size) {
+            members = members == null ? new int[4] : Arrays.copyOf(members, size * 2);
+            cells.put(cell, members);
+        }
+        members[size] = slot;
+        cellSizes.put(cell, size + 1);
+    }
+
+    public void remove(int id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) return;
+        long cell = cellOf[slot];
+        int[] members = cells.get(cell);
+        int size = cellSizes.get(cell);
+        for (int i = 0; i < size; i++) {
+            if (members[i] == slot) {
+                members[i] = members[size - 1];
+                break;
+            }
+        }
+        if (size == 1) {
+            cells.remove(cell);
+            cellSizes.remove(cell);
+        } else {
+            cellSizes.put(cell, size - 1);
+        }
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    /** Ids within {@code radiusKm} of the point, nearest first, capped at {@code limit}. */
+    public RadiusResult within(double lat, double lon, double radiusKm, int limit) {
+        HitHeap heap = new HitHeap(Math.max(limit, 0));
+        int[] total = new int[1];
+        CellVisitor visitor = cell -> {
+            int[] members = cells.get(cell);
+            if (members == null) return;
+            int size = cellSizes.get(cell);
+            for (int i = 0; i < size; i++) {
+                int slot = members[i];
+                double d = GeoPoint.distanceKm(lat, lon, lats[slot], lons[slot]);
+                if (d <= radiusKm) {
+                    total[0]++;
+                    heap.offer(ids[slot], d);
+                }
+            }
+        };
+
+        double dLat = radiusKm / KM_PER_DEGREE;
+        int latLo = latIndex(Math.max(-90, lat - dLat));
+        int latHi = latIndex(Math.min(90, lat + dLat));
+        double maxAbsLat = Math.min(90, Math.abs(lat) + dLat);
+        double cos = Math.cos(Math.toRadians(maxAbsLat));
+        int lonSpan = cos < 1e-9 ? lonCells : (int) Math.ceil(radiusKm / (KM_PER_DEGREE * cos) / cellDegrees) + 1;
+        long boxCells = (long) (latHi - latLo + 1) * Math.min(lonCells, 2L * lonSpan + 1);
+
+        if (boxCells > cells.size()) {
+            cells.keySet().forEach(visitor::visit);
+        } else {
+            int centerLon = lonIndex(lon);
+            for (int la = latLo; la <= latHi; la++) {
+                if (2 * lonSpan + 1 >= lonCells) {
+                    for (int lo = 0; lo < lonCells; lo++) visitor.visit(cellKey(la, lo));
+                } else {
+                    for (int lo = centerLon - lonSpan; lo <= centerLon + lonSpan; lo++) {
+                        visitor.visit(cellKey(la, Math.floorMod(lo, lonCells)));
+                    }
+                }
+            }
+        }
+        return new RadiusResult(heap.sorted(), total[0]);
+    }
+
+    /** The {@code k} ids closest to the point, nearest first. */
+    public List<Hit> nearest(double lat, double lon, int k) {
+        HitHeap heap = new HitHeap(Math.max(k, 0));
+        if (k <= 0 || slotById.isEmpty()) return heap.sorted();
+        CellVisitor visitor = cell -> {
+            int[] members = cells.get(cell);
+            if (members == null) return;
+            int size = cellSizes.get(cell);
+            for (int i = 0; i < size; i++) {
+                int slot = members[i];
+                heap.offer(ids[slot], GeoPoint.distanceKm(lat, lon, lats[slot], lons[slot]));
+            }
+        };
+
+        int centerLat = latIndex(lat);
+        int centerLon = lonIndex(lon);
+        long visited = 0;
+        for (int ring = 0; ; ring++) {
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            if (visited + ringCells > cells.size() || ring > Math.max(latCells, lonCells)) {
+                // Cheaper to look at every occupied cell than to keep widening the search
+                heap.clear();
+                cells.keySet().forEach(visitor::visit);
+                break;
+            }
+            visitRing(centerLat, centerLon, ring, visitor);
+            visited += ringCells;
+            if (heap.isFull() && heap.worst() <= ringLowerBoundKm(lat, ring + 1)) break;
+        }
+        return heap.sorted();
+    }
+
+    // Any point in ring r is at least (r - 1) whole cells away from the origin along one axis; for the
+    // longitude axis the shortest such arc lies at the highest latitude the ring reaches
+    private double ringLowerBoundKm(double lat, int ring) {
+        double gap = Math.max(0, ring - 1) * cellDegrees;
+        double latBound = gap * KM_PER_DEGREE;
+        double cos = Math.max(0, Math.cos(Math.toRadians(Math.min(90, Math.abs(lat) + (ring + 1) * cellDegrees))));
+        double halfLon = Math.toRadians(Math.min(180, gap)) / 2;
+        double lonBound = 2 * GeoPoint.EARTH_RADIUS_KM * Math.asin(Math.min(1, cos * Math.sin(halfLon)));
+        return Math.min(latBound, lonBound);
+    }
+
+    private void visitRing(int centerLat, int centerLon, int ring, CellVisitor visitor) {
+        for (int la = centerLat - ring; la <= centerLat + ring; la++) {
+            if (la < 0 || la >= latCells) continue;
+            boolean edgeRow = la == centerLat - ring || la == centerLat + ring;
+            int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+            for (int lo = centerLon - ring; lo <= centerLon + ring; lo += step) {
+                visitor.visit(cellKey(la, Math.floorMod(lo, lonCells)));
+            }
+        }
+    }
+
+    private int nextSlot() {
+        if (slotCount == ids.length) {
+            int capacity = slotCount * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            lats = Arrays.copyOf(lats, capacity);
+            lons = Arrays.copyOf(lons, capacity);
+            cellOf = Arrays.copyOf(cellOf, capacity);
+        }
+        return slotCount++;
+    }
+
+    private int latIndex(double lat) {
+        return Math.min(latCells - 1, (int) Math.floor((lat + 90) / cellDegrees));
+    }
+
+    private int lonIndex(double lon) {
+        return Math.floorMod((int) Math.floor((lon + 180) / cellDegrees), lonCells);
+    }
+
+    private static long cellKey(int latIndex, int lonIndex) {
+        return ((long) latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+
+    private interface CellVisitor {
+        void visit(long cell);
+    }
+
+    /** Bounded max-heap on distance keeping the closest hits seen so far. */
+    private static final class HitHeap {
+        private final int capacity;
+        private final int[] ids;
+        private final double[] distances;
+        private int size;
+
+        HitHeap(int capacity) {
+            this.capacity = capacity;
+            this.ids = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        boolean isFull() {
+            return size == capacity;
+        }
+
+        double worst() {
+            return distances[0];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void offer(int id, double distance) {
+            if (capacity == 0) return;
+            if (size < capacity) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (distances[parent] >= distance) break;
+                    ids[i] = ids[parent];
+                    distances[i] = distances[parent];
+                    i = parent;
+                }
+                ids[i] = id;
+                distances[i] = distance;
+            } else if (distance < distances[0]) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) break;
+                    if (child + 1 < size && distances[child + 1] > distances[child]) child++;
+                    if (distances[child] <= distance) break;
+                    ids[i] = ids[child];
+                    distances[i] = distances[child];
+                    i = child;
+                }
+                ids[i] = id;
+                distances[i] = distance;
+            }
+        }
+
+        List<Hit> sorted() {
+            List<Hit> hits = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) hits.add(new Hit(ids[i], distances[i]));
+            hits.sort((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.propertyhub.apartment.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.apartment.dto.ApartmentImportResult;
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.geo.GeoPoint;
+import com.propertyhub.apartment.observer.ApartmentEvent;
+import com.propertyhub.apartment.service.ApartmentService;
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.service.OutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Bulk listing import from CSV (header row required) or NDJSON, using the same field names as
+ * {@code POST /api/apartments/add}: type, price, bedrooms, location, description, status, latitude, longitude, userId.
+ *
+ * The upload is read one row at a time and inserted in transactions of {@code chunk-size} rows, flushing and
+ * clearing the persistence context every JDBC batch, so memory stays flat whatever the file size. A chunk that
+ * fails in the database is retried row by row to find the offending rows; rows that fail validation are reported
+ * with their line number and skipped. Committed chunks stay committed if a later one fails, and if the upload breaks
+ * off the rows read before the break are still imported.
+ *
+ * Observers get one IMPORTED event for the whole import, written to the outbox once the rows are in, instead of an
+ * event per listing. If the process dies mid-import that event is lost; the periodic index rebuilds still pick the
+ * rows up.
+ */
+@Service
+public class ApartmentImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApartmentImportService.class);
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final List<String> FIELDS = List.of(
+            "type", "price", "bedrooms", "location", "description", "status", "latitude", "longitude", "userid");
+
+    @Value("${apartment.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int flushInterval;
+
+    @Value("${apartment.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${apartment.import.max-row-chars:65536}")
+    private int maxRowChars;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TransactionTemplate transactionTemplate;
+
+    // One parsed input row; fields is null when the row could not be parsed and error says why
+    private record Row(long line, Map<String, String> fields, String error) {}
+
+    private record Pending(long line, Apartment apartment) {}
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ApartmentImportResult importApartments(InputStream input, String format) {
+        ApartmentImportResult result = new ApartmentImportResult(UUID.randomUUID().toString(), maxReportedErrors);
+        long started = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        long line = 0;
+        try {
+            Iterator<Row> rows = FORMAT_NDJSON.equals(format) ? ndjsonRows(reader) : csvRows(reader);
+            while (rows.hasNext()) {
+                Row row = rows.next();
+                line = row.line();
+                result.rowRead();
+                if (row.fields() == null) {
+                    result.failed(row.line(), row.error());
+                    continue;
+                }
+                try {
+                    chunk.add(new Pending(row.line(), toApartment(row.fields())));
+                } catch (IllegalArgumentException e) {
+                    result.failed(row.line(), e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) insertChunk(chunk, result);
+            }
+            insertChunk(chunk, result);
+        } catch (IOException | UncheckedIOException | IllegalStateException e) {
+            // Unreadable or truncated input, or a database refusing every row. The rows read before that point
+            // still go in, so the reported line is where a corrected upload can pick up.
+            String reason = e.getMessage();
+            try {
+                insertChunk(chunk, result);
+            } catch (IllegalStateException rejected) {
+                reason = rejected.getMessage();
+            }
+            result.aborted(line + 1, "Import stopped: " + reason);
+        } finally {
+            if (result.getImported() > 0) publishSummary(result);
+        }
+
+        log.atInfo().setMessage("apartment import finished")
+                .addKeyValue("importId", result.getImportId())
+                .addKeyValue("rows", result.getRows())
+                .addKeyValue("imported", result.getImported())
+                .addKeyValue("failed", result.getFailed())
+                .addKeyValue("complete", result.isComplete())
+                .addKeyValue("tookMs", (System.nanoTime() - started) / 1_000_000)
+                .log();
+        return result;
+    }
+
+    public static String formatFor(String contentType, String filename) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (type.contains("ndjson") || type.contains("jsonl") || name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return FORMAT_NDJSON;
+        }
+        if (type.contains("csv") || name.endsWith(".csv")) return FORMAT_CSV;
+        return null;
+    }
+
+    private void insertChunk(List<Pending> chunk, ApartmentImportResult result) {
+        if (chunk.isEmpty()) return;
+        try {
+            insert(chunk, result);
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    private void insert(List<Pending> chunk, ApartmentImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(chunk));
+            for (Pending pending : chunk) result.imported(pending.apartment().getApartmentID());
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                result.failed(chunk.get(0).line(), rootMessage(e));
+                return;
+            }
+            // Find the rows the database rejected; ids handed out by the rolled-back attempt are not reused
+            long importedBefore = result.getImported();
+            for (Pending pending : chunk) {
+                pending.apartment().setApartmentID(null);
+                insert(List.of(pending), result);
+            }
+            // Nothing got in, so the database itself is the problem rather than the rows
+            if (result.getImported() == importedBefore) {
+                throw new IllegalStateException("every row up to line " + chunk.get(chunk.size() - 1).line()
+                        + " was rejected: " + rootMessage(e));
+            }
+        }
+    }
+
+    private void persist(List<Pending> chunk) {
+        // A large import would otherwise push every cached listing out of the second-level cache
+        entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        for (int i = 0; i < chunk.size(); i++) {
+            entityManager.persist(chunk.get(i).apartment());
+            if ((i + 1) % flushInterval == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void publishSummary(ApartmentImportResult result) {
+        ApartmentImportSummary summary = new ApartmentImportSummary(result.getImportId(), result.getImported(),
+                result.getFirstApartmentID(), result.getLastApartmentID(), LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxService.record(OutboxEvent.AGGREGATE_APARTMENT,
+                    result.getImportId(), ApartmentEvent.Type.IMPORTED.name(), summary));
+        } catch (RuntimeException e) {
+            log.error("could not record apartment import {} for observers", result.getImportId(), e);
+        }
+    }
+
+    private Apartment toApartment(Map<String, String> fields) {
+        String type = required(fields, "type", 50);
+        String location = required(fields, "location", 200);
+        double price = number(fields, "price");
+        if (!(price > 0) || price >= 1e10) throw new IllegalArgumentException("price must be positive and below 10,000,000,000");
+        int bedrooms;
+        try {
+            bedrooms = Integer.parseInt(required(fields, "bedrooms", 10));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("bedrooms is not a whole number");
+        }
+        if (bedrooms < 0) throw new IllegalArgumentException("bedrooms cannot be negative");
+
+        String status = blankToNull(fields.get("status"));
+        if (status == null) status = "AVAILABLE";
+        if (status.length() > 20) throw new IllegalArgumentException("status is longer than 20 characters");
+
+        String description = blankToNull(fields.get("description"));
+        String userId = blankToNull(fields.get("userid"));
+        if (userId != null) {
+            try {
+                description = ApartmentService.embedOwnerInDescription(description, Long.parseLong(userId));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("userId is not a number");
+            }
+        }
+
+        Apartment apartment = new Apartment(type, price, bedrooms, location, description, status);
+        try {
+            apartment.setLatitude(ApartmentService.parseCoordinate(fields.get("latitude")));
+            apartment.setLongitude(ApartmentService.parseCoordinate(fields.get("longitude")));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("latitude/longitude is not a number");
+        }
+        // Checks the range; a single coordinate is allowed and ignored by the geo index like any other
+        GeoPoint.of(apartment.getLatitude(), apartment.getLongitude());
+        return apartment;
+    }
+
+    private static String required(Map<String, String> fields, String name, int maxLength) {
+        String value = blankToNull(fields.get(name));
+        if (value == null) throw new IllegalArgumentException("Missing required field: " + name);
+        if (value.length() > maxLength) throw new IllegalArgumentException(name + " is longer than " + maxLength + " characters");
+        return value;
+    }
+
+    private static double number(Map<String, String> fields, String name) {
+        try {
+            return Double.parseDouble(required(fields, name, 32));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a number");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) root = root.getCause();
+        return root.getMessage();
+    }
+
+    private Iterator<Row> csvRows(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, ',', maxRowChars);
+        List<String> header = csv.next();
+        if (header == null) return List.<Row>of().iterator();
+        List<String> columns = new ArrayList<>(header.size());
+        for (String column : header) columns.add(column.trim().toLowerCase(Locale.ROOT));
+        for (String required : List.of("type", "price", "bedrooms", "location")) {
+            if (!columns.contains(required)) throw new IllegalStateException("CSV header is missing column " + required);
+        }
+
+        // Reads ahead only in hasNext(), so input that breaks off surfaces after every row before it was handed out
+        return new Iterator<>() {
+            private List<String> next;
+            private boolean fetched;
+
+            @Override
+            public boolean hasNext() {
+                if (!fetched) {
+                    try {
+                        next = csv.next();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    fetched = true;
+                }
+                return next != null;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                fetched = false;
+                List<String> values = next;
+                long line = csv.recordLine();
+                if (values.size() != columns.size()) {
+                    return new Row(line, null, "Expected " + columns.size() + " columns but found " + values.size());
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < columns.size(); i++) fields.put(columns.get(i), values.get(i));
+                return new Row(line, fields, null);
+            }
+        };
+    }
+
+    private Iterator<Row> ndjsonRows(BufferedReader reader) {
+        return new Iterator<>() {
+            private final StringBuilder text = new StringBuilder();
+            private long lineNumber;
+            private boolean started;
+            private String next;
+            private boolean fetched;
+
+            // Next non-blank line, or null at the end of input
+            private String read() {
+                try {
+                    String line;
+                    do {
+                        line = readLine();
+                    } while (line != null && line.isBlank());
+                    return line;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            // Like BufferedReader.readLine, but gives up at maxRowChars instead of first reading a runaway line
+            // into memory; also skips a leading byte order mark
+            private String readLine() throws IOException {
+                int c = reader.read();
+                if (c < 0) return null;
+                lineNumber++;
+                if (!started) {
+                    started = true;
+                    if (c == '\uFEFF') c = reader.read();
+                }
+                text.setLength(0);
+                while (c >= 0 && c != '\n' && c != '\r') {
+                    if (text.length() == maxRowChars) {
+                        throw new IllegalStateException("Line " + lineNumber + " is longer than " + maxRowChars + " characters");
+                    }
+                    text.append((char) c);
+                    c = reader.read();
+                }
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                return text.toString();
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (!fetched) {
+                    next = read();
+                    fetched = true;
+                }
+                return next != null;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                fetched = false;
+                String text = next;
+                long line = lineNumber;
+                try {
+                    JsonNode node = objectMapper.readTree(text);
+                    if (!node.isObject()) return new Row(line, null, "Expected a JSON object");
+                    Map<String, String> fields = new HashMap<>();
+                    for (Map.Entry<String, JsonNode> field : node.properties()) {
+                        String name = field.getKey().toLowerCase(Locale.ROOT);
+                        if (FIELDS.contains(name) && !field.getValue().isNull()) fields.put(name, field.getValue().asText());
+                    }
+                    return new Row(line, fields, null);
+                } catch (JsonProcessingException e) {
+                    return new Row(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.propertyhub.apartment.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: one record at a time, so memory is bounded by the longest record rather than the file.
+ * Quoted fields may contain separators, doubled quotes and line breaks. A leading byte order mark is skipped.
+ * Records longer than {@code maxRecordChars} are rejected, so a stray quote cannot pull the rest of the file into one field.
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private final char separator;
+    private final int maxRecordChars;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    public CsvRecordReader(Reader reader, char separator, int maxRecordChars) {
+        this.reader = reader;
+        this.separator = separator;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * The next record, or null at the end of input. Blank lines are skipped.
+     * Throws IllegalStateException when a quoted field is still open at the end of input or the record is too long;
+     * the reader cannot resynchronise after either.
+     */
+    public List<String> next() throws IOException {
+        if (!started) {
+            started = true;
+            if (peek() == '\uFEFF') position++;
+        }
+        while (true) {
+            int c = peek();
+            if (c < 0) return null;
+            if (c == '\r' || c == '\n') {
+                consumeLineBreak();
+                continue;
+            }
+            break;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int length = 0;
+        while (true) {
+            int c = read();
+            if (++length > maxRecordChars) {
+                throw new IllegalStateException("Record starting on line " + recordLine + " is longer than " + maxRecordChars + " characters");
+            }
+            if (quoted) {
+                if (c < 0) throw new IllegalStateException("Unterminated quoted field starting on line " + recordLine);
+                if (c == '"') {
+                    if (peek() == '"') {
+                        position++;
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n' || (c == '\r' && peek() != '\n')) line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c < 0 || c == '\r' || c == '\n') {
+                if (c >= 0) {
+                    position--;
+                    consumeLineBreak();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /** Line on which the record last returned by {@link #next()} started (1-based). */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    private void consumeLineBreak() throws IOException {
+        if (read() == '\r' && peek() == '\n') position++;
+        line++;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        int n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) return false;
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
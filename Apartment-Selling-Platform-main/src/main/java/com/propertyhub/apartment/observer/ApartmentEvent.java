@@ -0,0 +1,82 @@
+package com.propertyhub.apartment.observer;
+
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+
+import java.time.Instant;
+
+/**
+ * A listing change queued for delivery to observers.
+ * Carries a detached copy of the apartment so later changes to the caller's entity don't leak into it.
+ */
+public final class ApartmentEvent {
+
+    public enum Type { CREATED, UPDATED, REMOVED, IMPORTED }
+
+    private final Type type;
+    private final Integer apartmentID;
+    private final Apartment apartment;
+    private final ApartmentImportSummary summary;
+    private final Instant occurredAt = Instant.now();
+    private final long enqueuedNanos = System.nanoTime();
+
+    private ApartmentEvent(Type type, Integer apartmentID, Apartment apartment, ApartmentImportSummary summary) {
+        this.type = type;
+        this.apartmentID = apartmentID;
+        this.apartment = apartment;
+        this.summary = summary;
+    }
+
+    public static ApartmentEvent created(Apartment apartment) {
+        return new ApartmentEvent(Type.CREATED, apartment.getApartmentID(), snapshot(apartment), null);
+    }
+
+    public static ApartmentEvent updated(Apartment apartment) {
+        return new ApartmentEvent(Type.UPDATED, apartment.getApartmentID(), snapshot(apartment), null);
+    }
+
+    public static ApartmentEvent removed(Integer apartmentID) {
+        return new ApartmentEvent(Type.REMOVED, apartmentID, null, null);
+    }
+
+    public static ApartmentEvent imported(ApartmentImportSummary summary) {
+        return new ApartmentEvent(Type.IMPORTED, null, null, summary);
+    }
+
+    public Type getType() { return type; }
+
+    public Integer getApartmentID() { return apartmentID; }
+
+    public Apartment getApartment() { return apartment; }
+
+    public ApartmentImportSummary getSummary() { return summary; }
+
+    public Instant getOccurredAt() { return occurredAt; }
+
+    long getEnqueuedNanos() { return enqueuedNanos; }
+
+    void deliverTo(ApartmentObserver observer) {
+        switch (type) {
+            case CREATED -> observer.update(apartment);
+            case UPDATED -> observer.onApartmentUpdated(apartment);
+            case REMOVED -> observer.onApartmentRemoved(apartmentID);
+            case IMPORTED -> observer.onApartmentsImported(summary);
+        }
+    }
+
+    private static Apartment snapshot(Apartment source) {
+        Apartment copy = new Apartment();
+        copy.setApartmentID(source.getApartmentID());
+        copy.setType(source.getType());
+        copy.setPrice(source.getPrice());
+        copy.setBedrooms(source.getBedrooms());
+        copy.setLocation(source.getLocation());
+        copy.setDescription(source.getDescription());
+        copy.setStatus(source.getStatus());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setLatitude(source.getLatitude());
+        copy.setLongitude(source.getLongitude());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,188 @@
+package com.propertyhub.apartment.observer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Asynchronous delivery of apartment events to observers.
+ *
+ * Each observer gets its own {@link ObserverLane}, so a slow or failing provider only backs up its own
+ * queue. Calls are bounded by a timeout and retried with backoff; events that still fail are appended to a
+ * dead-letter file (one JSON object per line), as are events that find an observer's queue full. {@link #publish}
+ * completes once every observer has either handled or dead-lettered the event, so one failing observer never
+ * makes the outbox publish an event again to the others.
+ * Queue depth, lag and outcome counts are published as {@code apartment.notify.*} meters per observer.
+ */
+@Component
+public class ApartmentEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(ApartmentEventBus.class);
+
+    @Value("${apartment.notify.queue-capacity:10000}")
+    int queueCapacity;
+
+    @Value("${apartment.notify.batch-size:100}")
+    int batchSize;
+
+    @Value("${apartment.notify.timeout-ms:5000}")
+    long timeoutMs;
+
+    @Value("${apartment.notify.max-attempts:3}")
+    int maxAttempts;
+
+    @Value("${apartment.notify.backoff-ms:200}")
+    long backoffMs;
+
+    @Value("${apartment.notify.max-backoff-ms:5000}")
+    long maxBackoffMs;
+
+    @Value("${apartment.notify.shutdown-grace-ms:5000}")
+    private long shutdownGraceMs;
+
+    @Value("${apartment.notify.dead-letter-file:logs/apartment-notify-dead-letter.ndjson}")
+    String deadLetterFile;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    private final List<ObserverLane> lanes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger callThreads = new AtomicInteger();
+    private ThreadFactory callThreadFactory;
+
+    @PostConstruct
+    void init() {
+        // Observer calls mostly wait on mail and SMS providers, so in virtual-thread mode each gets a virtual thread
+        callThreadFactory = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("apartment-notify-call-").getVirtualThreadFactory()
+                : r -> {
+                    Thread thread = new Thread(r, "apartment-notify-call-" + callThreads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+    }
+
+    public void register(ApartmentObserver observer) {
+        if (observer == null) return;
+        ObserverLane lane = new ObserverLane(observer, this, callThreadFactory);
+        lanes.add(lane);
+        registerMeters(lane);
+    }
+
+    public void unregister(ApartmentObserver observer) {
+        for (ObserverLane lane : lanes) {
+            if (lane.observer() == observer) {
+                lanes.remove(lane);
+                lane.stop(shutdownGraceMs);
+            }
+        }
+    }
+
+    /** Completes once every registered observer has handled or dead-lettered the event; fails if one shut down first. */
+    public CompletableFuture<Void> publish(ApartmentEvent event) {
+        List<CompletableFuture<Void>> deliveries = lanes.stream().map(lane -> lane.offer(event)).toList();
+        return CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0]));
+    }
+
+    /** Per-observer queue depth, lag and outcome counts, for diagnostics. */
+    public Map<String, Map<String, Long>> stats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        for (ObserverLane lane : lanes) {
+            Map<String, Long> laneStats = new LinkedHashMap<>();
+            laneStats.put("queued", (long) lane.queued());
+            laneStats.put("pendingLagMs", lane.pendingLagMs());
+            laneStats.put("lastDeliveryLagMs", lane.lastDeliveryLagMs());
+            laneStats.put("delivered", lane.delivered.get());
+            laneStats.put("retried", lane.retried.get());
+            laneStats.put("deadLettered", lane.deadLettered.get());
+            laneStats.put("dropped", lane.dropped.get());
+            stats.put(lane.name(), laneStats);
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ObserverLane lane : lanes) lane.stop(shutdownGraceMs);
+        lanes.clear();
+    }
+
+    synchronized void deadLetter(ObserverLane lane, ApartmentEvent event, int attempts, String error) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("deadLetteredAt", Instant.now().toString());
+        entry.put("observer", lane.name());
+        entry.put("type", event.getType());
+        entry.put("apartmentID", event.getApartmentID());
+        entry.put("occurredAt", event.getOccurredAt().toString());
+        entry.put("attempts", attempts);
+        entry.put("error", error);
+        entry.put("apartment", event.getApartment());
+        if (event.getSummary() != null) entry.put("summary", event.getSummary());
+        log.atWarn().setMessage("apartment event dead-lettered")
+                .addKeyValue("observer", lane.name())
+                .addKeyValue("type", event.getType())
+                .addKeyValue("apartmentID", event.getApartmentID())
+                .addKeyValue("error", error)
+                .log();
+        try {
+            Path path = Paths.get(deadLetterFile);
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            Files.writeString(path, objectMapper.writeValueAsString(entry) + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("could not write apartment event dead letter to {}", deadLetterFile, e);
+        }
+    }
+
+    private void registerMeters(ObserverLane lane) {
+        if (meterRegistry == null) return;
+        String observer = lane.name();
+        Gauge.builder("apartment.notify.queued", lane, ObserverLane::queued)
+                .tag("observer", observer).register(meterRegistry);
+        Gauge.builder("apartment.notify.lag.pending", lane, ObserverLane::pendingLagMs)
+                .tag("observer", observer).baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("apartment.notify.lag.delivery", lane, ObserverLane::lastDeliveryLagMs)
+                .tag("observer", observer).baseUnit("milliseconds").register(meterRegistry);
+        counter("apartment.notify.delivered", lane, l -> l.delivered.get());
+        counter("apartment.notify.retried", lane, l -> l.retried.get());
+        counter("apartment.notify.dead_lettered", lane, l -> l.deadLettered.get());
+        counter("apartment.notify.dropped", lane, l -> l.dropped.get());
+    }
+
+    private void counter(String name, ObserverLane lane, ToDoubleFunction<ObserverLane> count) {
+        FunctionCounter.builder(name, lane, count).tag("observer", lane.name()).register(meterRegistry);
+    }
+}
@@ -2,30 +2,73 @@
 
 package com.propertyhub.apartment.observer;
 
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
 import com.propertyhub.apartment.entity.Apartment;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Entry point for listing change notifications.
+ * Events go through the asynchronous ApartmentEventBus unless apartment.notify.async=false, in which case
+ * observers are called inline on the caller's thread as before. Each notify method returns a future that
+ * completes once the observers have handled the event (already complete in the inline case).
+ */
 @Service
 public class ApartmentNotificationService {
 
     private final ApartmentSubject subject = new ApartmentSubject();
+    private final ApartmentEventBus eventBus;
+    private final boolean async;
 
     public ApartmentNotificationService(EmailNotificationObserver emailObserver,
-                                        SmsNotificationObserver smsObserver) {
+                                        SmsNotificationObserver smsObserver,
+                                        ApartmentEventBus eventBus,
+                                        @Value("${apartment.notify.async:true}") boolean async) {
+        this.eventBus = eventBus;
+        this.async = async;
         // Register default observers
-        subject.registerObserver(emailObserver);
-        subject.registerObserver(smsObserver);
+        registerObserver(emailObserver);
+        registerObserver(smsObserver);
     }
 
     public void registerObserver(ApartmentObserver observer) {
-        subject.registerObserver(observer);
+        if (async) eventBus.register(observer);
+        else subject.registerObserver(observer);
     }
 
     public void unregisterObserver(ApartmentObserver observer) {
-        subject.unregisterObserver(observer);
+        if (async) eventBus.unregister(observer);
+        else subject.unregisterObserver(observer);
     }
 
-    public void notifyNewApartment(Apartment apartment) {
+    public CompletableFuture<Void> notifyNewApartment(Apartment apartment) {
+        if (async) return eventBus.publish(ApartmentEvent.created(apartment));
         subject.notifyNewApartment(apartment);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public CompletableFuture<Void> notifyApartmentUpdated(Apartment apartment) {
+        if (async) return eventBus.publish(ApartmentEvent.updated(apartment));
+        subject.notifyApartmentUpdated(apartment);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public CompletableFuture<Void> notifyApartmentRemoved(Integer apartmentID) {
+        if (async) return eventBus.publish(ApartmentEvent.removed(apartmentID));
+        subject.notifyApartmentRemoved(apartmentID);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public CompletableFuture<Void> notifyApartmentsImported(ApartmentImportSummary summary) {
+        if (async) return eventBus.publish(ApartmentEvent.imported(summary));
+        subject.notifyApartmentsImported(summary);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public Map<String, Map<String, Long>> getDispatchStats() {
+        return eventBus.stats();
     }
 }
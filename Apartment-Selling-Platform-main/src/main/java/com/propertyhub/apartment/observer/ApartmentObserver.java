@@ -2,11 +2,26 @@
 
 package com.propertyhub.apartment.observer;
 
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
 import com.propertyhub.apartment.entity.Apartment;
 
 /**
  * Observer interface to be notified when a new apartment is listed.
+ * Observers that also keep derived state (indexes, caches) can follow updates and removals.
  */
 public interface ApartmentObserver {
     void update(Apartment apartment);
+
+    default void onApartmentUpdated(Apartment apartment) {}
+
+    default void onApartmentRemoved(Integer apartmentID) {}
+
+    /** A bulk import, delivered once in place of an event per listing; observers with derived state reload it. */
+    default void onApartmentsImported(ApartmentImportSummary summary) {}
+
+    /** Events delivered to this observer at once; the default of 1 preserves publish order. */
+    default int maxConcurrency() { return 1; }
+
+    /** Per-event delivery timeout in milliseconds; 0 uses the bus default. */
+    default long deliveryTimeoutMillis() { return 0; }
 }
@@ -0,0 +1,39 @@
+package com.propertyhub.apartment.observer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.service.OutboxEventHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes committed apartment changes from the outbox to the registered observers.
+ */
+@Component
+public class ApartmentOutboxHandler implements OutboxEventHandler {
+
+    @Autowired
+    private ApartmentNotificationService apartmentNotificationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String getAggregateType() {
+        return OutboxEvent.AGGREGATE_APARTMENT;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(OutboxEvent event) throws Exception {
+        return switch (ApartmentEvent.Type.valueOf(event.getEventType())) {
+            case CREATED -> apartmentNotificationService.notifyNewApartment(objectMapper.readValue(event.getPayload(), Apartment.class));
+            case UPDATED -> apartmentNotificationService.notifyApartmentUpdated(objectMapper.readValue(event.getPayload(), Apartment.class));
+            case REMOVED -> apartmentNotificationService.notifyApartmentRemoved(Integer.valueOf(event.getAggregateId()));
+            case IMPORTED -> apartmentNotificationService.notifyApartmentsImported(objectMapper.readValue(event.getPayload(), ApartmentImportSummary.class));
+        };
+    }
+}
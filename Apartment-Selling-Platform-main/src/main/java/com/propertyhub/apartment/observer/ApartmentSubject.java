@@ -2,15 +2,20 @@
 
 package com.propertyhub.apartment.observer;
 
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
 import com.propertyhub.apartment.entity.Apartment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Subject that maintains a list of observers and notifies them on new apartments.
+ * Subject that maintains a list of observers and notifies them on new, updated and removed apartments.
  */
 public class ApartmentSubject {
+    private static final Logger log = LoggerFactory.getLogger(ApartmentSubject.class);
+
     private final List<ApartmentObserver> observers = new CopyOnWriteArrayList<>();
 
     public void registerObserver(ApartmentObserver observer) {
@@ -25,7 +30,38 @@ public class ApartmentSubject {
         for (ApartmentObserver obs : observers) {
             try {
                 obs.update(apartment);
-            } catch (Exception ignored) {
+            } catch (Exception e) {
+                log.warn("observer {} failed for apartment {}", obs.getClass().getSimpleName(), apartment.getApartmentID(), e);
+            }
+        }
+    }
+
+    public void notifyApartmentUpdated(Apartment apartment) {
+        for (ApartmentObserver obs : observers) {
+            try {
+                obs.onApartmentUpdated(apartment);
+            } catch (Exception e) {
+                log.warn("observer {} failed for apartment {}", obs.getClass().getSimpleName(), apartment.getApartmentID(), e);
+            }
+        }
+    }
+
+    public void notifyApartmentRemoved(Integer apartmentID) {
+        for (ApartmentObserver obs : observers) {
+            try {
+                obs.onApartmentRemoved(apartmentID);
+            } catch (Exception e) {
+                log.warn("observer {} failed for apartment {}", obs.getClass().getSimpleName(), apartmentID, e);
+            }
+        }
+    }
+
+    public void notifyApartmentsImported(ApartmentImportSummary summary) {
+        for (ApartmentObserver obs : observers) {
+            try {
+                obs.onApartmentsImported(summary);
+            } catch (Exception e) {
+                log.warn("observer {} failed for import {}", obs.getClass().getSimpleName(), summary.getImportId(), e);
             }
         }
     }
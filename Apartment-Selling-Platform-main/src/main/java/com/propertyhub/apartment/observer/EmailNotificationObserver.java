@@ -2,6 +2,7 @@
 
 package com.propertyhub.apartment.observer;
 
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
 import com.propertyhub.apartment.entity.Apartment;
 import org.springframework.stereotype.Component;
 
@@ -15,4 +16,17 @@ public class EmailNotificationObserver implements ApartmentObserver {
                 + ", price=" + apartment.getPrice()
                 + ", location=" + apartment.getLocation());
     }
+
+    // One message for the whole import rather than one per listing
+    @Override
+    public void onApartmentsImported(ApartmentImportSummary summary) {
+        System.out.println("[NOTIFY][EMAIL] " + summary.getImported() + " new apartments listed in bulk import "
+                + summary.getImportId());
+    }
+
+    // Independent messages, so order doesn't matter; let several go to the provider at once
+    @Override
+    public int maxConcurrency() {
+        return 4;
+    }
 }
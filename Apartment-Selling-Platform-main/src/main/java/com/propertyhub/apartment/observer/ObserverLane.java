@@ -0,0 +1,259 @@
+package com.propertyhub.apartment.observer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivery lane for one observer: a bounded queue drained in batches by up to maxConcurrency workers.
+ * With a single worker events reach the observer in the order they were published.
+ * Every offered event comes back as a future that completes once the lane is done with it: the observer handled
+ * it, or it was dead-lettered because the observer kept failing or the lane was full. It only fails when the lane
+ * shut down before getting to the event, since publishing it again would otherwise repeat it for observers that
+ * already had it.
+ *
+ * Calls run on the lane's own pool of one thread per worker. A call that times out is interrupted, and its
+ * worker waits for it to return before retrying, so an observer never has more than maxConcurrency calls in
+ * flight and a single-worker lane never has two events in progress at once. A provider that ignores the
+ * interrupt stalls its own lane (logged) rather than piling up threads.
+ */
+class ObserverLane {
+
+    private static final Logger log = LoggerFactory.getLogger(ObserverLane.class);
+
+    private record Delivery(ApartmentEvent event, CompletableFuture<Void> done) {}
+
+    private final ApartmentObserver observer;
+    private final String name;
+    private final ApartmentEventBus bus;
+    private final ExecutorService callExecutor;
+    private final BlockingQueue<Delivery> queue;
+    private final Thread[] workers;
+    private final long timeoutMs;
+    private volatile boolean running = true;
+
+    final AtomicLong delivered = new AtomicLong();
+    final AtomicLong retried = new AtomicLong();
+    final AtomicLong deadLettered = new AtomicLong();
+    final AtomicLong dropped = new AtomicLong();
+    private volatile long lastDeliveryLagMs;
+
+    ObserverLane(ApartmentObserver observer, ApartmentEventBus bus, ThreadFactory callThreadFactory) {
+        this.observer = observer;
+        this.name = observer.getClass().getSimpleName();
+        this.bus = bus;
+        this.queue = new ArrayBlockingQueue<>(bus.queueCapacity);
+        this.timeoutMs = observer.deliveryTimeoutMillis() > 0 ? observer.deliveryTimeoutMillis() : bus.timeoutMs;
+        this.workers = new Thread[Math.max(1, observer.maxConcurrency())];
+        this.callExecutor = Executors.newFixedThreadPool(workers.length, callThreadFactory);
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(this::work, "apartment-notify-" + name + "-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    ApartmentObserver observer() {
+        return observer;
+    }
+
+    String name() {
+        return name;
+    }
+
+    // Never blocks the publisher: an event that finds the lane full goes to the dead-letter file straight away
+    CompletableFuture<Void> offer(ApartmentEvent event) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        if (!queue.offer(new Delivery(event, done))) {
+            dropped.incrementAndGet();
+            bus.deadLetter(this, event, 0, "queue full");
+            done.complete(null);
+        }
+        return done;
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    /** Age of the oldest event still waiting in this lane. */
+    long pendingLagMs() {
+        Delivery head = queue.peek();
+        return head == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.event().getEnqueuedNanos());
+    }
+
+    /** Publish-to-delivery time of the most recently delivered event. */
+    long lastDeliveryLagMs() {
+        return lastDeliveryLagMs;
+    }
+
+    void stop(long graceMs) {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(graceMs);
+        for (Thread worker : workers) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (remaining > 0) worker.join(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker.interrupt();
+        }
+        callExecutor.shutdownNow();
+        List<Delivery> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        leftover.forEach(this::abandon);
+    }
+
+    private void work() {
+        List<Delivery> batch = new ArrayList<>(bus.batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Delivery first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, bus.batchSize - 1);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!deliver(batch.get(i))) {
+                        // Interrupted mid-batch: hand back what was not delivered
+                        for (int j = i; j < batch.size(); j++) abandon(batch.get(j));
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void abandon(Delivery delivery) {
+        delivery.done().completeExceptionally(new IllegalStateException(name + " shut down before delivery"));
+    }
+
+    // False only when the worker was interrupted before finishing the event
+    private boolean deliver(Delivery delivery) {
+        ApartmentEvent event = delivery.event();
+        String error = null;
+        for (int attempt = 1; attempt <= bus.maxAttempts; attempt++) {
+            Call call = new Call(event);
+            try {
+                callExecutor.execute(call);
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+            try {
+                call.finished.get(timeoutMs, TimeUnit.MILLISECONDS);
+                delivered.incrementAndGet();
+                lastDeliveryLagMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - event.getEnqueuedNanos());
+                delivery.done().complete(null);
+                return true;
+            } catch (TimeoutException e) {
+                error = "timed out after " + timeoutMs + " ms";
+                call.interrupt();
+                if (!awaitReturn(call, event)) return false;
+            } catch (ExecutionException e) {
+                error = String.valueOf(e.getCause());
+            } catch (InterruptedException e) {
+                call.interrupt();
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            if (attempt < bus.maxAttempts) {
+                retried.incrementAndGet();
+                try {
+                    Thread.sleep(backoffMs(attempt));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        deadLettered.incrementAndGet();
+        bus.deadLetter(this, event, bus.maxAttempts, error);
+        delivery.done().complete(null);
+        return true;
+    }
+
+    // False if the worker was interrupted while waiting
+    private boolean awaitReturn(Call call, ApartmentEvent event) {
+        boolean warned = false;
+        while (true) {
+            try {
+                call.finished.get(timeoutMs, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (ExecutionException e) {
+                return true;
+            } catch (TimeoutException e) {
+                if (!warned) {
+                    log.atWarn().setMessage("observer call ignores interrupts; lane waits for it to return")
+                            .addKeyValue("observer", name)
+                            .addKeyValue("type", event.getType())
+                            .addKeyValue("apartmentID", event.getApartmentID())
+                            .log();
+                    warned = true;
+                }
+                call.interrupt();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    // Exponential with jitter, so a recovering provider isn't hit by every retry at once
+    private long backoffMs(int attempt) {
+        long ceiling = Math.min(bus.maxBackoffMs, bus.backoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    /** One call to the observer; {@code finished} completes only when the call has actually returned. */
+    private final class Call implements Runnable {
+        private final ApartmentEvent event;
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+        private Thread runner;
+
+        Call(ApartmentEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            try {
+                event.deliverTo(observer);
+                finished.complete(null);
+            } catch (Throwable t) {
+                finished.completeExceptionally(t);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                // An interrupt aimed at this call must not hit the next one on the same pool thread
+                Thread.interrupted();
+            }
+        }
+
+        synchronized void interrupt() {
+            if (runner != null) runner.interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.propertyhub.apartment.observer;
+
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.apartment.search.SavedSearchIndex;
+import com.propertyhub.apartment.search.SavedSearchMatch;
+import com.propertyhub.apartment.service.ApartmentService;
+import com.propertyhub.datasource.ReadYourWrites;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Matches each new listing against every saved search and collects the hits into one digest per user,
+ * sent on a fixed interval instead of one message per listing.
+ */
+@Component
+public class SavedSearchAlertObserver implements ApartmentObserver {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchAlertObserver.class);
+
+    private static final int IMPORT_PAGE_SIZE = 1000;
+
+    @Autowired
+    private SavedSearchIndex savedSearchIndex;
+
+    @Autowired
+    private ApartmentRepository apartmentRepository;
+
+    @Autowired
+    private ApartmentNotificationService apartmentNotificationService;
+
+    @Value("${apartment.alerts.max-listings-per-digest:20}")
+    private int maxListingsPerDigest;
+
+    private final Map<Long, Digest> pending = new ConcurrentHashMap<>();
+
+    private final ExecutorService importMatchExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "saved-search-import-match");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final class Digest {
+        final Map<Integer, Apartment> listings = new LinkedHashMap<>();
+        int overflow;
+    }
+
+    @PostConstruct
+    public void init() {
+        apartmentNotificationService.registerObserver(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        importMatchExecutor.shutdownNow();
+    }
+
+    @Override
+    public void update(Apartment apartment) {
+        Long owner = ApartmentService.extractOwnerFromDescription(apartment.getDescription());
+        for (SavedSearchMatch match : savedSearchIndex.match(apartment)) {
+            if (owner != null && owner == match.userId()) continue;
+            // compute() is atomic against the remove() in sendDigests, so no hit lands in a digest already sent
+            pending.compute(match.userId(), (userId, digest) -> {
+                if (digest == null) digest = new Digest();
+                // Several of a user's searches can match the same listing; it is listed once
+                if (digest.listings.containsKey(apartment.getApartmentID())) return digest;
+                if (digest.listings.size() < maxListingsPerDigest) digest.listings.put(apartment.getApartmentID(), apartment);
+                else digest.overflow++;
+                return digest;
+            });
+        }
+    }
+
+    // An import publishes one summary instead of an event per listing, so its rows are read back and matched here.
+    // Paging runs on a single worker, one import after another, so the notification timeout doesn't cut it short,
+    // and on the primary since replicas may not have the rows yet. The id range can include listings others added
+    // meanwhile; those were already matched through their own events and the digest lists each listing once.
+    @Override
+    public void onApartmentsImported(ApartmentImportSummary summary) {
+        if (summary.getImported() == 0 || summary.getFirstApartmentID() == null || summary.getLastApartmentID() == null) return;
+        importMatchExecutor.execute(() -> ReadYourWrites.onPrimary(() -> matchImported(summary)));
+    }
+
+    private void matchImported(ApartmentImportSummary summary) {
+        try {
+            int afterId = summary.getFirstApartmentID() - 1;
+            while (afterId < summary.getLastApartmentID()) {
+                List<Apartment> page = apartmentRepository.findByApartmentIDGreaterThanOrderByApartmentIDAsc(
+                        afterId, PageRequest.of(0, IMPORT_PAGE_SIZE));
+                for (Apartment apartment : page) {
+                    if (apartment.getApartmentID() > summary.getLastApartmentID()) return;
+                    update(apartment);
+                    afterId = apartment.getApartmentID();
+                }
+                if (page.size() < IMPORT_PAGE_SIZE) return;
+            }
+        } catch (Exception e) {
+            log.atError().setMessage("saved-search matching for import failed")
+                    .addKeyValue("importId", summary.getImportId())
+                    .setCause(e)
+                    .log();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${apartment.alerts.digest-interval-ms:900000}",
+            fixedDelayString = "${apartment.alerts.digest-interval-ms:900000}")
+    public void sendDigests() {
+        for (Long userId : new ArrayList<>(pending.keySet())) {
+            Digest digest = pending.remove(userId);
+            if (digest != null) send(userId, new ArrayList<>(digest.listings.values()), digest.overflow);
+        }
+    }
+
+    // In a real system, hand the digest to the email service provider.
+    private void send(Long userId, List<Apartment> listings, int overflow) {
+        log.atInfo().setMessage("saved-search digest sent")
+                .addKeyValue("userID", userId)
+                .addKeyValue("matches", listings.size() + overflow)
+                .addKeyValue("apartmentIDs", listings.stream().map(Apartment::getApartmentID).toList())
+                .addKeyValue("overflow", overflow)
+                .log();
+    }
+}
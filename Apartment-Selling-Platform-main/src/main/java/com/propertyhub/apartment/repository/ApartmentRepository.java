@@ -1,9 +1,27 @@
 package com.propertyhub.apartment.repository;
 
 import com.propertyhub.apartment.entity.Apartment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ApartmentRepository extends JpaRepository<Apartment, Integer> {
+    // Keyset paging over the whole catalogue, used by the in-memory indexes
+    List<Apartment> findByApartmentIDGreaterThanOrderByApartmentIDAsc(Integer apartmentID, Pageable pageable);
+
+    // Callers bound upTo by committedVersion(), so rows of transactions still in flight wait for the next call
+    @Query(value = "SELECT TOP (:limit) * FROM Apartments " +
+            "WHERE row_version > CAST(:since AS BINARY(8)) AND row_version <= CAST(:upTo AS BINARY(8)) " +
+            "ORDER BY row_version", nativeQuery = true)
+    List<Apartment> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, @Param("limit") int limit);
+
+    // Every change at or below this version is committed (rows above MIN_ACTIVE_ROWVERSION may be in flight).
+    // It only moves when the catalogue does, so it doubles as the catalogue version for ETags.
+    @Query(value = "SELECT CAST(MIN_ACTIVE_ROWVERSION() AS BIGINT) - 1", nativeQuery = true)
+    long committedVersion();
 }
\ No newline at end of file
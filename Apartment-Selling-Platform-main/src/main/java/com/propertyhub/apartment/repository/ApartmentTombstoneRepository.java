@@ -0,0 +1,29 @@
+package com.propertyhub.apartment.repository;
+
+import com.propertyhub.apartment.entity.ApartmentTombstone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApartmentTombstoneRepository extends JpaRepository<ApartmentTombstone, Integer> {
+
+    // Plain insert: save() would select first to decide between insert and merge for an assigned id
+    // Names its table so Hibernate does not clear every second-level cache region after it
+    @Modifying
+    @Query(value = "INSERT INTO ApartmentTombstones (apartmentID) VALUES (:apartmentID)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ApartmentTombstones"))
+    int insert(@Param("apartmentID") Integer apartmentID);
+
+    @Query(value = "SELECT TOP (:limit) * FROM ApartmentTombstones " +
+            "WHERE row_version > CAST(:since AS BINARY(8)) AND row_version <= CAST(:upTo AS BINARY(8)) " +
+            "ORDER BY row_version", nativeQuery = true)
+    List<ApartmentTombstone> findDeletedBetween(@Param("since") long since, @Param("upTo") long upTo, @Param("limit") int limit);
+}
@@ -0,0 +1,18 @@
+package com.propertyhub.apartment.repository;
+
+import com.propertyhub.apartment.entity.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    List<SavedSearch> findByUserIDOrderByCreatedAtDesc(Long userID);
+
+    long countByUserIDAndActiveTrue(Long userID);
+
+    // Keyset paging over active searches, used to load the alert matcher
+    List<SavedSearch> findBySavedSearchIDGreaterThanAndActiveTrueOrderBySavedSearchIDAsc(Long savedSearchID, Pageable pageable);
+}
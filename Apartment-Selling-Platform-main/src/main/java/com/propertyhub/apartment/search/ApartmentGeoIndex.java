@@ -0,0 +1,230 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.geo.GazetteerGeocoder;
+import com.propertyhub.apartment.geo.GeoGrid;
+import com.propertyhub.apartment.geo.GeoPoint;
+import com.propertyhub.apartment.observer.ApartmentNotificationService;
+import com.propertyhub.apartment.observer.ApartmentObserver;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.datasource.ReadYourWrites;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory spatial index over apartments for radius and nearest-k queries.
+ *
+ * Listings are placed by their stored latitude/longitude, or by geocoding the location text against the
+ * gazetteer when they have none. Kept current through ApartmentObserver events and the periodic rebuild,
+ * in the same way as ApartmentSearchIndex.
+ */
+@Component
+public class ApartmentGeoIndex implements ApartmentObserver {
+
+    private static final Logger log = LoggerFactory.getLogger(ApartmentGeoIndex.class);
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+
+    public record RadiusResult(List<NearbyApartment> results, int total) {}
+
+    @Autowired
+    private ApartmentRepository apartmentRepository;
+
+    @Autowired
+    private ApartmentNotificationService apartmentNotificationService;
+
+    @Autowired
+    private GazetteerGeocoder geocoder;
+
+    // ~5.5 km cells
+    @Value("${apartment.geo.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private Snapshot snapshot;
+    // Non-null while a rebuild is in progress
+    private List<Consumer<Snapshot>> replayLog;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "apartment-geo-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final class Snapshot {
+        final GeoGrid grid = new GeoGrid(cellDegrees);
+        final Map<Integer, Apartment> listings = new HashMap<>();
+
+        void upsert(Apartment apartment) {
+            remove(apartment.getApartmentID());
+            GeoPoint point = locate(apartment);
+            if (point == null) return;
+            grid.put(apartment.getApartmentID(), point.getLatitude(), point.getLongitude());
+            listings.put(apartment.getApartmentID(), apartment);
+        }
+
+        void remove(Integer apartmentID) {
+            if (listings.remove(apartmentID) != null) grid.remove(apartmentID);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        snapshot = new Snapshot();
+        apartmentNotificationService.registerObserver(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${apartment.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${apartment.search.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            lock.writeLock().lock();
+            try {
+                replayLog = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long started = System.nanoTime();
+            Snapshot fresh = new Snapshot();
+            int afterId = 0;
+            int unplaced = 0;
+            while (true) {
+                List<Apartment> page = apartmentRepository.findByApartmentIDGreaterThanOrderByApartmentIDAsc(
+                        afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (Apartment apartment : page) {
+                    fresh.upsert(ApartmentSearchIndex.publicCopy(apartment));
+                    if (!fresh.listings.containsKey(apartment.getApartmentID())) unplaced++;
+                    afterId = apartment.getApartmentID();
+                }
+                if (page.size() < REBUILD_PAGE_SIZE) break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                replayLog.forEach(op -> op.accept(fresh));
+                replayLog = null;
+                snapshot = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.atInfo().setMessage("apartment geo index rebuilt")
+                    .addKeyValue("placed", fresh.grid.size())
+                    .addKeyValue("unplaced", unplaced)
+                    .addKeyValue("tookMs", (System.nanoTime() - started) / 1_000_000)
+                    .log();
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                replayLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("apartment geo index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /** Stored coordinates if present, otherwise the geocoded location; null if neither is known. */
+    public GeoPoint locate(Apartment apartment) {
+        GeoPoint stored = GeoPoint.of(apartment.getLatitude(), apartment.getLongitude());
+        return stored != null ? stored : geocoder.geocode(apartment.getLocation()).orElse(null);
+    }
+
+    public RadiusResult within(GeoPoint origin, double radiusKm, int limit) {
+        lock.readLock().lock();
+        try {
+            GeoGrid.RadiusResult result = snapshot.grid.within(origin.getLatitude(), origin.getLongitude(), radiusKm, limit);
+            return new RadiusResult(toNearby(result.hits()), result.totalMatches());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<NearbyApartment> nearest(GeoPoint origin, int k) {
+        lock.readLock().lock();
+        try {
+            return toNearby(snapshot.grid.nearest(origin.getLatitude(), origin.getLongitude(), k));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<NearbyApartment> toNearby(List<GeoGrid.Hit> hits) {
+        List<NearbyApartment> nearby = new ArrayList<>(hits.size());
+        for (GeoGrid.Hit hit : hits) {
+            nearby.add(new NearbyApartment(snapshot.listings.get(hit.id()), hit.distanceKm()));
+        }
+        return nearby;
+    }
+
+    @Override
+    public void update(Apartment apartment) {
+        Apartment copy = ApartmentSearchIndex.publicCopy(apartment);
+        apply(s -> s.upsert(copy));
+    }
+
+    @Override
+    public void onApartmentUpdated(Apartment apartment) {
+        Apartment copy = ApartmentSearchIndex.publicCopy(apartment);
+        apply(s -> s.upsert(copy));
+    }
+
+    @Override
+    public void onApartmentRemoved(Integer apartmentID) {
+        apply(s -> s.remove(apartmentID));
+    }
+
+    // Reloaded off the notification thread, as in ApartmentSearchIndex
+    @Override
+    public void onApartmentsImported(ApartmentImportSummary summary) {
+        rebuildExecutor.execute(() -> ReadYourWrites.onPrimary(this::rebuild));
+    }
+
+    private void apply(Consumer<Snapshot> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(snapshot);
+            if (replayLog != null) replayLog.add(op);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.propertyhub.apartment.search;
+
+/**
+ * Filters, sort key and page for a catalogue search. Null fields are not applied.
+ */
+public class ApartmentQuery {
+    private String type;
+    private String status;
+    private String location;
+    private Double minPrice;
+    private Double maxPrice;
+    private Integer minBedrooms;
+    private Integer maxBedrooms;
+    private String sortBy;
+    private int page;
+    private int size = 20;
+
+    // Default constructor
+    public ApartmentQuery() {}
+
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public Double getMinPrice() { return minPrice; }
+    public void setMinPrice(Double minPrice) { this.minPrice = minPrice; }
+
+    public Double getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(Double maxPrice) { this.maxPrice = maxPrice; }
+
+    public Integer getMinBedrooms() { return minBedrooms; }
+    public void setMinBedrooms(Integer minBedrooms) { this.minBedrooms = minBedrooms; }
+
+    public Integer getMaxBedrooms() { return maxBedrooms; }
+    public void setMaxBedrooms(Integer maxBedrooms) { this.maxBedrooms = maxBedrooms; }
+
+    public String getSortBy() { return sortBy; }
+    public void setSortBy(String sortBy) { this.sortBy = sortBy; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
@@ -0,0 +1,195 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.observer.ApartmentNotificationService;
+import com.propertyhub.apartment.observer.ApartmentObserver;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.datasource.ReadYourWrites;
+import com.propertyhub.apartment.service.ApartmentService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory search engine over the apartment catalogue.
+ *
+ * Registered as an ApartmentObserver so listings added, updated or removed through the services are
+ * applied immediately; a periodic rebuild from the database picks up anything written around them.
+ */
+@Component
+public class ApartmentSearchIndex implements ApartmentObserver {
+
+    private static final Logger log = LoggerFactory.getLogger(ApartmentSearchIndex.class);
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+
+    @Autowired
+    private ApartmentRepository apartmentRepository;
+
+    @Autowired
+    private ApartmentNotificationService apartmentNotificationService;
+
+    @Value("${apartment.search.price-bands:1000,2500,5000,100000,250000,500000,1000000}")
+    private double[] priceBandEdges;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private CatalogIndex index;
+    // Non-null while a rebuild is in progress
+    private List<Consumer<CatalogIndex>> replayLog;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "apartment-search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        index = new CatalogIndex(priceBandEdges);
+        apartmentNotificationService.registerObserver(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${apartment.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${apartment.search.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            lock.writeLock().lock();
+            try {
+                replayLog = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long started = System.nanoTime();
+            CatalogIndex fresh = new CatalogIndex(priceBandEdges);
+            int afterId = 0;
+            while (true) {
+                List<Apartment> page = apartmentRepository.findByApartmentIDGreaterThanOrderByApartmentIDAsc(
+                        afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (Apartment apartment : page) {
+                    fresh.upsert(publicCopy(apartment));
+                    afterId = apartment.getApartmentID();
+                }
+                if (page.size() < REBUILD_PAGE_SIZE) break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                replayLog.forEach(op -> op.accept(fresh));
+                replayLog = null;
+                index = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.atInfo().setMessage("apartment search index rebuilt")
+                    .addKeyValue("listings", fresh.size())
+                    .addKeyValue("tookMs", (System.nanoTime() - started) / 1_000_000)
+                    .log();
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                replayLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("apartment search index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public ApartmentSearchResult search(ApartmentQuery query) {
+        lock.readLock().lock();
+        try {
+            return index.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Apartment apartment) {
+        Apartment copy = publicCopy(apartment);
+        apply(idx -> idx.upsert(copy));
+    }
+
+    @Override
+    public void onApartmentUpdated(Apartment apartment) {
+        Apartment copy = publicCopy(apartment);
+        apply(idx -> idx.upsert(copy));
+    }
+
+    @Override
+    public void onApartmentRemoved(Integer apartmentID) {
+        apply(idx -> idx.remove(apartmentID));
+    }
+
+    // Reloading is cheaper than replaying an import row by row. It runs on the rebuild executor so the
+    // notification timeout doesn't cut it short, and on the primary since replicas may not have the rows yet.
+    // Back-to-back imports queue behind one another there. A scheduled rebuild already in progress may
+    // miss the import; the next one then picks it up.
+    @Override
+    public void onApartmentsImported(ApartmentImportSummary summary) {
+        rebuildExecutor.execute(() -> ReadYourWrites.onPrimary(this::rebuild));
+    }
+
+    private void apply(Consumer<CatalogIndex> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(index);
+            if (replayLog != null) replayLog.add(op);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Detached copy with the owner marker stripped, so indexed rows can be returned to clients as-is
+    public static Apartment publicCopy(Apartment source) {
+        Apartment copy = new Apartment();
+        copy.setApartmentID(source.getApartmentID());
+        copy.setType(source.getType());
+        copy.setPrice(source.getPrice());
+        copy.setBedrooms(source.getBedrooms());
+        copy.setLocation(source.getLocation());
+        copy.setDescription(ApartmentService.stripOwnerFromDescription(source.getDescription()));
+        copy.setStatus(source.getStatus());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setLatitude(source.getLatitude());
+        copy.setLongitude(source.getLongitude());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+}
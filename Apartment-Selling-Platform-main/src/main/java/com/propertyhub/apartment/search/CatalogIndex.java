@@ -0,0 +1,319 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.entity.Apartment;
+
+import java.text.DecimalFormat;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Column store plus bitmap posting lists over the apartment catalogue.
+ *
+ * Each listing occupies a slot. Numeric fields live in primitive arrays indexed by slot so range filters
+ * and sorting never touch objects; categorical fields (type, status, location tokens, bedroom count,
+ * price band) map to DocBitmaps of slots, so filters are intersections and facet counts are
+ * intersection cardinalities. Freed slots are reused.
+ *
+ * Not thread-safe; ApartmentSearchIndex guards it with a read/write lock.
+ */
+class CatalogIndex {
+
+    private static final DocBitmap EMPTY = new DocBitmap();
+    private static final int MAX_WINDOW = 10_000;
+
+    private final double[] priceBandEdges;
+    private final String[] priceBandLabels;
+
+    private double[] prices = new double[1024];
+    private int[] bedrooms = new int[1024];
+    private long[] createdAt = new long[1024];
+    private Apartment[] rows = new Apartment[1024];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+
+    private final DocBitmap live = new DocBitmap();
+    private final Map<String, DocBitmap> byType = new HashMap<>();
+    private final Map<String, String> typeLabels = new HashMap<>();
+    private final Map<String, DocBitmap> byStatus = new HashMap<>();
+    private final Map<String, DocBitmap> byLocationToken = new HashMap<>();
+    private final Map<Integer, DocBitmap> byBedrooms = new TreeMap<>();
+    private final DocBitmap[] byPriceBand;
+
+    CatalogIndex(double[] priceBandEdges) {
+        this.priceBandEdges = priceBandEdges.clone();
+        Arrays.sort(this.priceBandEdges);
+        this.priceBandLabels = bandLabels(this.priceBandEdges);
+        this.byPriceBand = new DocBitmap[this.priceBandEdges.length + 1];
+        for (int i = 0; i < byPriceBand.length; i++) byPriceBand[i] = new DocBitmap();
+    }
+
+    int size() {
+        return slotById.size();
+    }
+
+    void upsert(Apartment apartment) {
+        if (apartment == null || apartment.getApartmentID() == null) return;
+        remove(apartment.getApartmentID());
+
+        int slot = allocateSlot();
+        double price = apartment.getPrice() == null ? 0.0 : apartment.getPrice();
+        int beds = apartment.getBedrooms() == null ? 0 : apartment.getBedrooms();
+        prices[slot] = price;
+        bedrooms[slot] = beds;
+        createdAt[slot] = apartment.getCreatedAt() == null ? 0L : apartment.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+        rows[slot] = apartment;
+        slotById.put(apartment.getApartmentID(), slot);
+
+        live.add(slot);
+        String typeKey = typeKey(apartment.getType());
+        byType.computeIfAbsent(typeKey, k -> new DocBitmap()).add(slot);
+        typeLabels.putIfAbsent(typeKey, apartment.getType() == null ? "" : apartment.getType().trim());
+        byStatus.computeIfAbsent(statusKey(apartment.getStatus()), k -> new DocBitmap()).add(slot);
+        for (String token : locationTokens(apartment.getLocation())) {
+            byLocationToken.computeIfAbsent(token, k -> new DocBitmap()).add(slot);
+        }
+        byBedrooms.computeIfAbsent(beds, k -> new DocBitmap()).add(slot);
+        byPriceBand[priceBand(price)].add(slot);
+    }
+
+    void remove(Integer apartmentID) {
+        Integer slot = slotById.remove(apartmentID);
+        if (slot == null) return;
+        Apartment old = rows[slot];
+
+        live.remove(slot);
+        removeFrom(byType, typeKey(old.getType()), slot);
+        removeFrom(byStatus, statusKey(old.getStatus()), slot);
+        for (String token : locationTokens(old.getLocation())) {
+            removeFrom(byLocationToken, token, slot);
+        }
+        removeFrom(byBedrooms, bedrooms[slot], slot);
+        byPriceBand[priceBand(prices[slot])].remove(slot);
+
+        rows[slot] = null;
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    ApartmentSearchResult search(ApartmentQuery query) {
+        DocBitmap candidates = live;
+        if (hasText(query.getType())) {
+            candidates = candidates.and(byType.getOrDefault(typeKey(query.getType()), EMPTY));
+        }
+        if (hasText(query.getStatus())) {
+            candidates = candidates.and(byStatus.getOrDefault(statusKey(query.getStatus()), EMPTY));
+        }
+        if (hasText(query.getLocation())) {
+            for (String token : locationTokens(query.getLocation())) {
+                candidates = candidates.and(byLocationToken.getOrDefault(token, EMPTY));
+            }
+        }
+
+        DocBitmap result = candidates;
+        if (query.getMinPrice() != null || query.getMaxPrice() != null
+                || query.getMinBedrooms() != null || query.getMaxBedrooms() != null) {
+            double minPrice = query.getMinPrice() == null ? Double.NEGATIVE_INFINITY : query.getMinPrice();
+            double maxPrice = query.getMaxPrice() == null ? Double.POSITIVE_INFINITY : query.getMaxPrice();
+            int minBeds = query.getMinBedrooms() == null ? Integer.MIN_VALUE : query.getMinBedrooms();
+            int maxBeds = query.getMaxBedrooms() == null ? Integer.MAX_VALUE : query.getMaxBedrooms();
+            DocBitmap filtered = new DocBitmap();
+            candidates.forEach(slot -> {
+                if (prices[slot] >= minPrice && prices[slot] <= maxPrice
+                        && bedrooms[slot] >= minBeds && bedrooms[slot] <= maxBeds) {
+                    filtered.add(slot);
+                }
+            });
+            result = filtered;
+        }
+
+        int total = result.cardinality();
+        int offset = Math.max(0, query.getPage()) * query.getSize();
+        List<Apartment> items = page(result, offset, query.getSize(), query.getSortBy());
+        return new ApartmentSearchResult(items, total, query.getPage(), query.getSize(), facets(result));
+    }
+
+    private List<Apartment> page(DocBitmap result, int offset, int size, String sortBy) {
+        List<Apartment> items = new ArrayList<>();
+        if (offset >= MAX_WINDOW) return items;
+        int window = Math.min(offset + size, MAX_WINDOW);
+
+        SlotOrder order = order(sortBy);
+        if (order == null) {
+            int[] seen = {0};
+            result.forEachWhile(slot -> {
+                if (seen[0]++ >= offset) items.add(rows[slot]);
+                return seen[0] < window;
+            });
+            return items;
+        }
+
+        // Bounded max-heap (by `order`) of the best `window` slots, kept in a primitive array
+        int[] heap = new int[window];
+        int[] heapSize = {0};
+        result.forEach(slot -> {
+            if (heapSize[0] < window) {
+                heap[heapSize[0]] = slot;
+                siftUp(heap, heapSize[0]++, order);
+            } else if (order.compare(slot, heap[0]) < 0) {
+                heap[0] = slot;
+                siftDown(heap, heapSize[0], order);
+            }
+        });
+
+        // Pop worst-first into the tail so the array ends up in ascending order
+        int n = heapSize[0];
+        int[] ranked = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            ranked[i] = heap[0];
+            heap[0] = heap[--heapSize[0]];
+            siftDown(heap, heapSize[0], order);
+        }
+        for (int i = offset; i < n; i++) items.add(rows[ranked[i]]);
+        return items;
+    }
+
+    private static void siftUp(int[] heap, int i, SlotOrder order) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (order.compare(heap[i], heap[parent]) <= 0) return;
+            int tmp = heap[i]; heap[i] = heap[parent]; heap[parent] = tmp;
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, SlotOrder order) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int worst = left + 1 < size && order.compare(heap[left + 1], heap[left]) > 0 ? left + 1 : left;
+            if (order.compare(heap[worst], heap[i]) <= 0) return;
+            int tmp = heap[i]; heap[i] = heap[worst]; heap[worst] = tmp;
+            i = worst;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlotOrder {
+        int compare(int a, int b);
+    }
+
+    // Ties fall back to slot order so paging is stable
+    private SlotOrder order(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) return null;
+        return switch (sortBy.toLowerCase(Locale.ROOT).trim()) {
+            case "price" -> (a, b) -> {
+                int c = Double.compare(prices[a], prices[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            };
+            case "price_desc" -> (a, b) -> {
+                int c = Double.compare(prices[b], prices[a]);
+                return c != 0 ? c : Integer.compare(a, b);
+            };
+            case "bedrooms", "size" -> (a, b) -> {
+                int c = Integer.compare(bedrooms[a], bedrooms[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            };
+            case "newest" -> (a, b) -> {
+                int c = Long.compare(createdAt[b], createdAt[a]);
+                return c != 0 ? c : Integer.compare(a, b);
+            };
+            default -> null;
+        };
+    }
+
+    // Drill-down counts: how many of the current matches fall under each facet value
+    private Map<String, Map<String, Integer>> facets(DocBitmap result) {
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+
+        Map<String, Integer> types = new LinkedHashMap<>();
+        byType.forEach((key, bitmap) -> putCount(types, typeLabels.get(key), result.andCardinality(bitmap)));
+        facets.put("type", types);
+
+        Map<String, Integer> statuses = new LinkedHashMap<>();
+        byStatus.forEach((key, bitmap) -> putCount(statuses, key, result.andCardinality(bitmap)));
+        facets.put("status", statuses);
+
+        Map<String, Integer> beds = new LinkedHashMap<>();
+        byBedrooms.forEach((key, bitmap) -> putCount(beds, String.valueOf(key), result.andCardinality(bitmap)));
+        facets.put("bedrooms", beds);
+
+        Map<String, Integer> bands = new LinkedHashMap<>();
+        for (int i = 0; i < byPriceBand.length; i++) {
+            putCount(bands, priceBandLabels[i], result.andCardinality(byPriceBand[i]));
+        }
+        facets.put("priceBand", bands);
+
+        return facets;
+    }
+
+    private static void putCount(Map<String, Integer> counts, String label, int count) {
+        if (count > 0) counts.merge(label, count, Integer::sum);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) return freeSlots[--freeCount];
+        int slot = slotCount++;
+        if (slot == rows.length) {
+            int capacity = slot * 2;
+            prices = Arrays.copyOf(prices, capacity);
+            bedrooms = Arrays.copyOf(bedrooms, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+        }
+        return slot;
+    }
+
+    private int priceBand(double price) {
+        int band = 0;
+        while (band < priceBandEdges.length && price >= priceBandEdges[band]) band++;
+        return band;
+    }
+
+    private static String[] bandLabels(double[] edges) {
+        DecimalFormat format = new DecimalFormat("0.##");
+        String[] labels = new String[edges.length + 1];
+        for (int i = 0; i <= edges.length; i++) {
+            String low = i == 0 ? "0" : format.format(edges[i - 1]);
+            labels[i] = i == edges.length ? low + "+" : low + "-" + format.format(edges[i]);
+        }
+        return labels;
+    }
+
+    private static <K> void removeFrom(Map<K, DocBitmap> postings, K key, int slot) {
+        DocBitmap bitmap = postings.get(key);
+        if (bitmap == null) return;
+        bitmap.remove(slot);
+        if (bitmap.isEmpty()) postings.remove(key);
+    }
+
+    static List<String> locationTokens(String location) {
+        List<String> tokens = new ArrayList<>();
+        if (location == null) return tokens;
+        for (String token : location.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !tokens.contains(token)) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    static String typeKey(String type) {
+        return type == null ? "" : type.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String statusKey(String status) {
+        return status == null ? "" : status.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
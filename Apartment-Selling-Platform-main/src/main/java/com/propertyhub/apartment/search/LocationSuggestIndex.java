@@ -0,0 +1,211 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.observer.ApartmentNotificationService;
+import com.propertyhub.apartment.observer.ApartmentObserver;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.datasource.ReadYourWrites;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Location autocomplete backed by an immutable LocationTrie.
+ *
+ * Listing counts per location are maintained from ApartmentObserver events; a change marks the trie stale
+ * and a fresh one is built shortly after and swapped in (copy-on-write), so readers never lock.
+ * Changes that arrive while a reload is reading the table are replayed onto the reloaded counts before they
+ * replace the old ones.
+ */
+@Component
+public class LocationSuggestIndex implements ApartmentObserver {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationSuggestIndex.class);
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    private static final int PRECOMPUTED_TOP_K = 10;
+    private static final long REBUILD_DELAY_MS = 250;
+
+    @Autowired
+    private ApartmentRepository apartmentRepository;
+
+    @Autowired
+    private ApartmentNotificationService apartmentNotificationService;
+
+    private volatile LocationTrie trie = LocationTrie.EMPTY;
+
+    // Guarded by this
+    private Counts state = new Counts();
+    // Non-null while a reload is in progress
+    private List<Consumer<Counts>> replayLog;
+
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "location-trie-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final class Counts {
+        final Map<String, Integer> counts = new HashMap<>();
+        final Map<String, String> labels = new HashMap<>();
+        final Map<Integer, String> locationById = new HashMap<>();
+
+        void upsert(Integer apartmentID, String location) {
+            remove(apartmentID);
+            String key = normalise(location);
+            if (key.isEmpty()) return;
+            counts.merge(key, 1, Integer::sum);
+            labels.putIfAbsent(key, location.trim().replaceAll("\\s+", " "));
+            locationById.put(apartmentID, key);
+        }
+
+        void remove(Integer apartmentID) {
+            String previous = locationById.remove(apartmentID);
+            if (previous == null) return;
+            Integer remaining = counts.merge(previous, -1, Integer::sum);
+            if (remaining != null && remaining <= 0) {
+                counts.remove(previous);
+                labels.remove(previous);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        apartmentNotificationService.registerObserver(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${apartment.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${apartment.search.rebuild-interval-ms:600000}")
+    public void reload() {
+        if (!reloading.compareAndSet(false, true)) return;
+        try {
+            synchronized (this) {
+                replayLog = new ArrayList<>();
+            }
+            Counts fresh = new Counts();
+            int afterId = 0;
+            while (true) {
+                List<Apartment> page = apartmentRepository.findByApartmentIDGreaterThanOrderByApartmentIDAsc(
+                        afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (Apartment apartment : page) {
+                    fresh.upsert(apartment.getApartmentID(), apartment.getLocation());
+                    afterId = apartment.getApartmentID();
+                }
+                if (page.size() < REBUILD_PAGE_SIZE) break;
+            }
+            synchronized (this) {
+                replayLog.forEach(op -> op.accept(fresh));
+                replayLog = null;
+                state = fresh;
+            }
+            rebuildTrie();
+        } catch (Exception e) {
+            synchronized (this) {
+                replayLog = null;
+            }
+            log.error("location suggest index reload failed", e);
+        } finally {
+            reloading.set(false);
+        }
+    }
+
+    public List<LocationSuggestion> suggest(String prefix, int limit) {
+        return trie.suggest(normalise(prefix), limit);
+    }
+
+    public int countWithPrefix(String prefix) {
+        return trie.countWithPrefix(normalise(prefix));
+    }
+
+    @Override
+    public void update(Apartment apartment) {
+        onApartmentUpdated(apartment);
+    }
+
+    @Override
+    public void onApartmentUpdated(Apartment apartment) {
+        if (apartment == null || apartment.getApartmentID() == null) return;
+        Integer apartmentID = apartment.getApartmentID();
+        String location = apartment.getLocation();
+        apply(counts -> counts.upsert(apartmentID, location));
+    }
+
+    @Override
+    public void onApartmentRemoved(Integer apartmentID) {
+        if (apartmentID == null) return;
+        apply(counts -> counts.remove(apartmentID));
+    }
+
+    @Override
+    public void onApartmentsImported(ApartmentImportSummary summary) {
+        rebuildExecutor.execute(() -> ReadYourWrites.onPrimary(this::reload));
+    }
+
+    private void apply(Consumer<Counts> op) {
+        synchronized (this) {
+            op.accept(state);
+            if (replayLog != null) replayLog.add(op);
+        }
+        scheduleRebuild();
+    }
+
+    // Bursts of changes (imports, admin edits) coalesce into a single rebuild
+    private void scheduleRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.schedule(() -> {
+                rebuildPending.set(false);
+                rebuildTrie();
+            }, REBUILD_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuildTrie() {
+        Map<String, Integer> countsCopy;
+        Map<String, String> labelsCopy;
+        synchronized (this) {
+            countsCopy = new HashMap<>(state.counts);
+            labelsCopy = new HashMap<>(state.labels);
+        }
+        trie = LocationTrie.build(countsCopy, labelsCopy, PRECOMPUTED_TOP_K);
+    }
+
+    /** Lower-case, accent-free, single-spaced form used as the trie key. */
+    static String normalise(String text) {
+        if (text == null) return "";
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return stripped.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,21 @@
+package com.propertyhub.apartment.search;
+
+public class LocationSuggestion {
+    private String location;
+    private int listings;
+
+    // Default constructor
+    public LocationSuggestion() {}
+
+    public LocationSuggestion(String location, int listings) {
+        this.location = location;
+        this.listings = listings;
+    }
+
+    // Getters and Setters
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public int getListings() { return listings; }
+    public void setListings(int listings) { this.listings = listings; }
+}
@@ -0,0 +1,226 @@
+package com.propertyhub.apartment.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable prefix trie over normalised location strings, flattened into parallel arrays.
+ *
+ * Keys are sorted, so every node covers a contiguous key range and its children are stored next to each
+ * other in label order. Nodes with many keys below them carry a precomputed top-k list (by listing count),
+ * so a suggestion is a walk down the prefix plus a copy; small nodes just scan their range.
+ */
+public final class LocationTrie {
+
+    public static final LocationTrie EMPTY = build(Map.of(), Map.of(), 10);
+
+    private static final int SCAN_THRESHOLD = 64;
+
+    private final String[] keys;
+    private final String[] labels;
+    private final int[] counts;
+    private final int topK;
+
+    private final char[] nodeChar;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] rangeLo;
+    private final int[] rangeHi;
+    private final int[] nodeTotal;
+    private final int[][] nodeTop;
+
+    private LocationTrie(String[] keys, String[] labels, int[] counts, int topK, NodeBuilder nodes) {
+        this.keys = keys;
+        this.labels = labels;
+        this.counts = counts;
+        this.topK = topK;
+        this.nodeChar = Arrays.copyOf(nodes.nodeChar, nodes.size);
+        this.firstChild = Arrays.copyOf(nodes.firstChild, nodes.size);
+        this.childCount = Arrays.copyOf(nodes.childCount, nodes.size);
+        this.rangeLo = Arrays.copyOf(nodes.rangeLo, nodes.size);
+        this.rangeHi = Arrays.copyOf(nodes.rangeHi, nodes.size);
+        this.nodeTotal = Arrays.copyOf(nodes.nodeTotal, nodes.size);
+        this.nodeTop = Arrays.copyOf(nodes.nodeTop, nodes.size);
+    }
+
+    /**
+     * @param counts listing count per normalised location
+     * @param labels display form per normalised location
+     * @param topK   suggestions precomputed per large node; requests for more fall back to a range scan
+     */
+    public static LocationTrie build(Map<String, Integer> counts, Map<String, String> labels, int topK) {
+        String[] keys = counts.entrySet().stream()
+                .filter(e -> e.getValue() != null && e.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toArray(String[]::new);
+        String[] display = new String[keys.length];
+        int[] keyCounts = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            display[i] = labels.getOrDefault(keys[i], keys[i]);
+            keyCounts[i] = counts.get(keys[i]);
+        }
+
+        // Breadth-first so that each node's children end up contiguous
+        NodeBuilder nodes = new NodeBuilder();
+        nodes.add('\0', 0, keys.length);
+        for (int node = 0; node < nodes.size; node++) {
+            int depth = nodes.depth[node];
+            int lo = nodes.rangeLo[node];
+            int hi = nodes.rangeHi[node];
+
+            int total = 0;
+            for (int i = lo; i < hi; i++) total += keyCounts[i];
+            nodes.nodeTotal[node] = total;
+
+            // Keys equal to this node's prefix sort first and have no child
+            int i = lo;
+            while (i < hi && keys[i].length() == depth) i++;
+            nodes.firstChild[node] = nodes.size;
+            while (i < hi) {
+                char c = keys[i].charAt(depth);
+                int start = i;
+                while (i < hi && keys[i].charAt(depth) == c) i++;
+                int child = nodes.add(c, start, i);
+                nodes.depth[child] = depth + 1;
+                nodes.childCount[node]++;
+            }
+        }
+
+        // Bottom-up: a large node's top-k is drawn from its own exact key and its children's top-k lists
+        for (int node = nodes.size - 1; node >= 0; node--) {
+            int lo = nodes.rangeLo[node];
+            int hi = nodes.rangeHi[node];
+            if (hi - lo <= SCAN_THRESHOLD) continue;
+            TopK top = new TopK(keyCounts, topK);
+            int first = nodes.firstChild[node];
+            int exactEnd = nodes.childCount[node] == 0 ? hi : nodes.rangeLo[first];
+            for (int i = lo; i < exactEnd; i++) top.offer(i);
+            for (int child = first; child < first + nodes.childCount[node]; child++) {
+                int[] childTop = nodes.nodeTop[child];
+                if (childTop != null) {
+                    for (int key : childTop) top.offer(key);
+                } else {
+                    for (int i = nodes.rangeLo[child]; i < nodes.rangeHi[child]; i++) top.offer(i);
+                }
+            }
+            nodes.nodeTop[node] = top.toArray();
+        }
+        return new LocationTrie(keys, display, keyCounts, topK, nodes);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /** Number of listings whose normalised location starts with the prefix. */
+    public int countWithPrefix(String normalisedPrefix) {
+        int node = find(normalisedPrefix);
+        return node < 0 ? 0 : nodeTotal[node];
+    }
+
+    /** Up to {@code limit} locations starting with the prefix, most listings first. */
+    public List<LocationSuggestion> suggest(String normalisedPrefix, int limit) {
+        List<LocationSuggestion> suggestions = new ArrayList<>();
+        int node = find(normalisedPrefix);
+        if (node < 0 || limit <= 0) return suggestions;
+
+        int[] top = nodeTop[node] != null && limit <= topK
+                ? nodeTop[node]
+                : topOf(counts, rangeLo[node], rangeHi[node], limit);
+        for (int i = 0; i < top.length && i < limit; i++) {
+            suggestions.add(new LocationSuggestion(labels[top[i]], counts[top[i]]));
+        }
+        return suggestions;
+    }
+
+    private int find(String prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = child(node, prefix.charAt(i));
+            if (node < 0) return -1;
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (nodeChar[mid] < c) lo = mid + 1;
+            else if (nodeChar[mid] > c) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private static int[] topOf(int[] counts, int lo, int hi, int k) {
+        TopK top = new TopK(counts, k);
+        for (int i = lo; i < hi; i++) top.offer(i);
+        return top.toArray();
+    }
+
+    /** Keeps the k keys with the highest count, ties broken by key order, in a sorted array. */
+    private static final class TopK {
+        private final int[] counts;
+        private final int[] keys;
+        private int size;
+
+        TopK(int[] counts, int k) {
+            this.counts = counts;
+            this.keys = new int[Math.max(k, 0)];
+        }
+
+        void offer(int key) {
+            if (keys.length == 0) return;
+            if (size == keys.length && !before(key, keys[size - 1])) return;
+            int i = size == keys.length ? size - 1 : size++;
+            while (i > 0 && before(key, keys[i - 1])) {
+                keys[i] = keys[i - 1];
+                i--;
+            }
+            keys[i] = key;
+        }
+
+        private boolean before(int a, int b) {
+            return counts[a] != counts[b] ? counts[a] > counts[b] : a < b;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(keys, size);
+        }
+    }
+
+    private static final class NodeBuilder {
+        char[] nodeChar = new char[64];
+        int[] firstChild = new int[64];
+        int[] childCount = new int[64];
+        int[] rangeLo = new int[64];
+        int[] rangeHi = new int[64];
+        int[] nodeTotal = new int[64];
+        int[] depth = new int[64];
+        int[][] nodeTop = new int[64][];
+        int size;
+
+        int add(char c, int lo, int hi) {
+            if (size == nodeChar.length) {
+                int capacity = size * 2;
+                nodeChar = Arrays.copyOf(nodeChar, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                rangeLo = Arrays.copyOf(rangeLo, capacity);
+                rangeHi = Arrays.copyOf(rangeHi, capacity);
+                nodeTotal = Arrays.copyOf(nodeTotal, capacity);
+                depth = Arrays.copyOf(depth, capacity);
+                nodeTop = Arrays.copyOf(nodeTop, capacity);
+            }
+            nodeChar[size] = c;
+            rangeLo[size] = lo;
+            rangeHi[size] = hi;
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.entity.Apartment;
+
+public class NearbyApartment {
+
+    private final Apartment apartment;
+    private final double distanceKm;
+
+    public NearbyApartment(Apartment apartment, double distanceKm) {
+        this.apartment = apartment;
+        this.distanceKm = distanceKm;
+    }
+
+    public Apartment getApartment() { return apartment; }
+
+    public double getDistanceKm() { return distanceKm; }
+}
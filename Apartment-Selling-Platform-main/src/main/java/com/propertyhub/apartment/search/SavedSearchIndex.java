@@ -0,0 +1,179 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.entity.SavedSearch;
+import com.propertyhub.apartment.repository.SavedSearchRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Holds every active saved search in a SavedSearchMatcher so new listings can be matched in memory.
+ * Loaded at startup; SavedSearchService keeps it in step with creates and deletes.
+ */
+@Component
+public class SavedSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchIndex.class);
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    private static final double REBUILD_DELETED_RATIO = 0.25;
+
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private SavedSearchMatcher matcher = new SavedSearchMatcher();
+    // Non-null while a rebuild is in progress
+    private List<Consumer<SavedSearchMatcher>> replayLog;
+
+    // As in ReviewSearchIndex, at most one compaction waits on the executor
+    private final AtomicBoolean compactionPending = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "saved-search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            lock.writeLock().lock();
+            try {
+                replayLog = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long started = System.nanoTime();
+            SavedSearchMatcher fresh = new SavedSearchMatcher();
+            long afterId = 0;
+            while (true) {
+                List<SavedSearch> page = savedSearchRepository.findBySavedSearchIDGreaterThanAndActiveTrueOrderBySavedSearchIDAsc(
+                        afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (SavedSearch search : page) {
+                    fresh.add(search);
+                    afterId = search.getSavedSearchID();
+                }
+                if (page.size() < REBUILD_PAGE_SIZE) break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                replayLog.forEach(op -> op.accept(fresh));
+                replayLog = null;
+                matcher = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.atInfo().setMessage("saved search index rebuilt")
+                    .addKeyValue("searches", fresh.size())
+                    .addKeyValue("tookMs", (System.nanoTime() - started) / 1_000_000)
+                    .log();
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                replayLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("saved search index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public void add(SavedSearch search) {
+        if (!Boolean.TRUE.equals(search.getActive())) {
+            remove(search.getSavedSearchID());
+            return;
+        }
+        SavedSearch copy = criteriaCopy(search);
+        apply(m -> m.add(copy));
+    }
+
+    public void remove(Long savedSearchID) {
+        apply(m -> m.remove(savedSearchID));
+    }
+
+    public List<SavedSearchMatch> match(Apartment apartment) {
+        List<SavedSearchMatch> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            SavedSearchMatcher current = matcher;
+            current.match(apartment, slot -> matches.add(new SavedSearchMatch(current.searchId(slot), current.userId(slot))));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return matcher.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Removed searches leave tombstones in the price tree until the next rebuild
+    private void apply(Consumer<SavedSearchMatcher> op) {
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            op.accept(matcher);
+            if (replayLog != null) replayLog.add(op);
+            compact = matcher.deletedRatio() > REBUILD_DELETED_RATIO && matcher.size() > REBUILD_PAGE_SIZE;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact && !rebuilding.get() && compactionPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    compactionPending.set(false);
+                }
+            });
+        }
+    }
+
+    private static SavedSearch criteriaCopy(SavedSearch source) {
+        SavedSearch copy = new SavedSearch();
+        copy.setSavedSearchID(source.getSavedSearchID());
+        copy.setUserID(source.getUserID());
+        copy.setType(source.getType());
+        copy.setLocation(source.getLocation());
+        copy.setMinPrice(source.getMinPrice());
+        copy.setMaxPrice(source.getMaxPrice());
+        copy.setMinBedrooms(source.getMinBedrooms());
+        copy.setMaxBedrooms(source.getMaxBedrooms());
+        copy.setActive(true);
+        return copy;
+    }
+}
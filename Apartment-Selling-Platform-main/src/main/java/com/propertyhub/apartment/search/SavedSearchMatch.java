@@ -0,0 +1,3 @@
+package com.propertyhub.apartment.search;
+
+public record SavedSearchMatch(long savedSearchId, long userId) {}
@@ -0,0 +1,242 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.entity.SavedSearch;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Reverse search: given a listing, find every saved search it satisfies without scanning them all.
+ *
+ * Searches are partitioned by (type or any) x (one of their location tokens or any), so a listing only
+ * visits the partitions for its own type and tokens. Within a partition the price range is indexed by a
+ * segment tree over log-scale price buckets: a range is stored on the O(log B) nodes that exactly cover
+ * its inner buckets, plus its two edge buckets. Searches found on the path from the listing's bucket to the
+ * root match on price by construction; only edge entries compare prices. Bedrooms and any remaining
+ * location tokens are checked per candidate. Not thread-safe; SavedSearchIndex guards access.
+ */
+class SavedSearchMatcher {
+
+    // 128 buckets spanning 1 .. 10^10, about 20% wide each
+    private static final int BUCKETS = 128;
+    private static final double BUCKETS_PER_DECADE = (BUCKETS - 1) / 10.0;
+    private static final int ANY = 0;
+    private static final int MAX_BEDROOMS = 255;
+    private static final int HAS_EXTRA_TOKENS = 1 << 16;
+
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    private final Map<String, Integer> tokenIds = new HashMap<>();
+    private final Map<Long, Partition> partitions = new HashMap<>();
+    private final Map<Long, Integer> slotBySearchId = new HashMap<>();
+
+    private long[] searchIds = new long[1024];
+    private long[] userIds = new long[1024];
+    private double[] minPrices = new double[1024];
+    private double[] maxPrices = new double[1024];
+    private int[][] extraTokens = new int[1024][];
+    private long[] active = new long[1024 / 64];
+    private int slotCount;
+    private int liveCount;
+
+    private static final class Partition {
+        final EntryList[] covered = new EntryList[2 * BUCKETS];
+        final EntryList[] edge = new EntryList[BUCKETS];
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    /** Share of slots held by removed searches; the owner rebuilds once this grows. */
+    double deletedRatio() {
+        return slotCount == 0 ? 0 : 1 - (double) liveCount / slotCount;
+    }
+
+    void add(SavedSearch search) {
+        remove(search.getSavedSearchID());
+        int slot = nextSlot();
+        searchIds[slot] = search.getSavedSearchID();
+        userIds[slot] = search.getUserID();
+        minPrices[slot] = search.getMinPrice() == null ? 0 : search.getMinPrice();
+        maxPrices[slot] = search.getMaxPrice() == null ? Double.POSITIVE_INFINITY : search.getMaxPrice();
+        active[slot >> 6] |= 1L << slot;
+        slotBySearchId.put(search.getSavedSearchID(), slot);
+        liveCount++;
+
+        int typeId = hasText(search.getType()) ? typeIds.computeIfAbsent(CatalogIndex.typeKey(search.getType()), k -> typeIds.size() + 1) : ANY;
+        List<String> tokens = CatalogIndex.locationTokens(search.getLocation());
+        int tokenId = ANY;
+        if (!tokens.isEmpty()) {
+            // Longest token is the likeliest to be specific; the rest are verified per candidate
+            String key = tokens.stream().max((a, b) -> Integer.compare(a.length(), b.length())).get();
+            tokenId = tokenIds.computeIfAbsent(key, k -> tokenIds.size() + 1);
+            if (tokens.size() > 1) {
+                int[] extra = new int[tokens.size() - 1];
+                int i = 0;
+                for (String token : tokens) {
+                    if (!token.equals(key)) extra[i++] = tokenIds.computeIfAbsent(token, k -> tokenIds.size() + 1);
+                }
+                extraTokens[slot] = extra;
+            }
+        }
+
+        if (minPrices[slot] > maxPrices[slot]) return; // can never match
+        int filter = bedroomFilter(search.getMinBedrooms(), search.getMaxBedrooms(), extraTokens[slot] != null);
+        Partition partition = partitions.computeIfAbsent(partitionKey(typeId, tokenId), k -> new Partition());
+        int lo = bucket(minPrices[slot]);
+        int hi = bucket(maxPrices[slot]);
+        append(partition.edge, lo, slot, filter);
+        if (hi != lo) append(partition.edge, hi, slot, filter);
+        // Canonical cover of the inner buckets [lo + 1, hi - 1]
+        int l = lo + 1 + BUCKETS;
+        int r = hi - 1 + BUCKETS;
+        while (l <= r) {
+            if ((l & 1) == 1) append(partition.covered, l++, slot, filter);
+            if ((r & 1) == 0) append(partition.covered, r--, slot, filter);
+            l >>= 1;
+            r >>= 1;
+        }
+    }
+
+    void remove(Long savedSearchId) {
+        Integer slot = slotBySearchId.remove(savedSearchId);
+        if (slot == null) return;
+        active[slot >> 6] &= ~(1L << slot);
+        liveCount--;
+    }
+
+    /** Calls {@code consumer} with the slot of every live search the listing satisfies. */
+    void match(Apartment apartment, IntConsumer consumer) {
+        if (liveCount == 0 || apartment.getPrice() == null) return;
+        double price = apartment.getPrice();
+        int bedrooms = clampBedrooms(apartment.getBedrooms() == null ? 0 : apartment.getBedrooms());
+
+        Integer typeId = hasText(apartment.getType()) ? typeIds.get(CatalogIndex.typeKey(apartment.getType())) : null;
+        List<String> tokens = CatalogIndex.locationTokens(apartment.getLocation());
+        int[] listingTokens = new int[tokens.size()];
+        int known = 0;
+        for (String token : tokens) {
+            Integer id = tokenIds.get(token);
+            if (id != null) listingTokens[known++] = id;
+        }
+        listingTokens = Arrays.copyOf(listingTokens, known);
+
+        int leaf = bucket(price);
+        for (int t = 0; t < (typeId == null ? 1 : 2); t++) {
+            int type = t == 0 ? ANY : typeId;
+            for (int k = -1; k < listingTokens.length; k++) {
+                Partition partition = partitions.get(partitionKey(type, k < 0 ? ANY : listingTokens[k]));
+                if (partition == null) continue;
+                for (int node = leaf + BUCKETS; node >= 1; node >>= 1) {
+                    EntryList covered = partition.covered[node];
+                    if (covered == null) continue;
+                    for (int i = 0; i < covered.size; i++) {
+                        int slot = covered.slots[i];
+                        if (accepts(slot, covered.filters[i], bedrooms, listingTokens)) consumer.accept(slot);
+                    }
+                }
+                EntryList edge = partition.edge[leaf];
+                if (edge == null) continue;
+                for (int i = 0; i < edge.size; i++) {
+                    int slot = edge.slots[i];
+                    if (accepts(slot, edge.filters[i], bedrooms, listingTokens)
+                            && price >= minPrices[slot] && price <= maxPrices[slot]) {
+                        consumer.accept(slot);
+                    }
+                }
+            }
+        }
+    }
+
+    long searchId(int slot) {
+        return searchIds[slot];
+    }
+
+    long userId(int slot) {
+        return userIds[slot];
+    }
+
+    // Bedroom bounds travel with each entry so most rejections never touch per-slot arrays
+    private boolean accepts(int slot, int filter, int bedrooms, int[] listingTokens) {
+        if (bedrooms < (filter & 0xFF) || bedrooms > ((filter >>> 8) & 0xFF) || !isActive(slot)) return false;
+        if ((filter & HAS_EXTRA_TOKENS) == 0) return true;
+        int[] extra = extraTokens[slot];
+        for (int token : extra) {
+            boolean found = false;
+            for (int listingToken : listingTokens) {
+                if (listingToken == token) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private int nextSlot() {
+        if (slotCount == searchIds.length) {
+            int capacity = slotCount * 2;
+            searchIds = Arrays.copyOf(searchIds, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            minPrices = Arrays.copyOf(minPrices, capacity);
+            maxPrices = Arrays.copyOf(maxPrices, capacity);
+            extraTokens = Arrays.copyOf(extraTokens, capacity);
+            active = Arrays.copyOf(active, capacity / 64);
+        }
+        return slotCount++;
+    }
+
+    private boolean isActive(int slot) {
+        return (active[slot >> 6] & (1L << slot)) != 0;
+    }
+
+    private static int bedroomFilter(Integer min, Integer max, boolean hasExtraTokens) {
+        int lo = min == null ? 0 : clampBedrooms(min);
+        int hi = max == null ? MAX_BEDROOMS : clampBedrooms(max);
+        return lo | hi << 8 | (hasExtraTokens ? HAS_EXTRA_TOKENS : 0);
+    }
+
+    private static int clampBedrooms(int bedrooms) {
+        return Math.max(0, Math.min(MAX_BEDROOMS, bedrooms));
+    }
+
+    private static int bucket(double price) {
+        if (!(price > 1)) return 0;
+        if (Double.isInfinite(price)) return BUCKETS - 1;
+        return (int) Math.min(BUCKETS - 1, Math.floor(Math.log10(price) * BUCKETS_PER_DECADE));
+    }
+
+    private static long partitionKey(int typeId, int tokenId) {
+        return ((long) typeId << 32) | tokenId;
+    }
+
+    private static void append(EntryList[] lists, int index, int slot, int filter) {
+        EntryList list = lists[index];
+        if (list == null) lists[index] = list = new EntryList();
+        list.add(slot, filter);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static final class EntryList {
+        int[] slots = new int[4];
+        int[] filters = new int[4];
+        int size;
+
+        void add(int slot, int filter) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                filters = Arrays.copyOf(filters, size * 2);
+            }
+            slots[size] = slot;
+            filters[size++] = filter;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.propertyhub.apartment.service;
 
 import com.propertyhub.apartment.entity.Apartment;
-import com.propertyhub.apartment.observer.ApartmentNotificationService;
+import com.propertyhub.apartment.observer.ApartmentEvent;
 import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.service.OutboxService;
 import com.propertyhub.payment.repository.RentPaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class ApartmentService {
 
     private static final String OWNER_PREFIX = "OWNER#";
@@ -22,8 +25,11 @@ public class ApartmentService {
     @Autowired
     private RentPaymentRepository rentPaymentRepository;
 
-    @Autowired(required = false)
-    private ApartmentNotificationService apartmentNotificationService;
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApartmentSyncService apartmentSyncService;
 
     public static String embedOwnerInDescription(String description, Long userId) {
         String safeDesc = description == null ? "" : description;
@@ -71,15 +77,12 @@ public class ApartmentService {
         return ap;
     }
 
+    @Transactional
     public Apartment addApartment(Apartment apartment) {
         apartment.setStatus("AVAILABLE");
         Apartment saved = apartmentRepository.save(apartment);
-        // Notify observers that a new apartment is listed
-        if (apartmentNotificationService != null) {
-            try {
-                apartmentNotificationService.notifyNewApartment(saved);
-            } catch (Exception ignored) {}
-        }
+        // Observers hear about the listing from the outbox once this commits
+        outboxService.record(OutboxEvent.AGGREGATE_APARTMENT, saved.getApartmentID(), ApartmentEvent.Type.CREATED.name(), saved);
         return saved;
     }
 
@@ -94,11 +97,14 @@ public class ApartmentService {
             rentPaymentRepository.deleteByApartmentID(apartmentID);
             // Then delete the apartment
             apartmentRepository.deleteById(apartmentID);
+            apartmentSyncService.recordDeletion(apartmentID);
+            notifyRemoved(apartmentID);
             return true;
         }
         return false;
     }
 
+    @Transactional
     public boolean updateApartment(Integer apartmentID, Long userId, java.util.Map<String, String> data) {
         Optional<Apartment> optionalApartment = apartmentRepository.findById(apartmentID);
         if (optionalApartment.isEmpty()) return false;
@@ -111,16 +117,31 @@ public class ApartmentService {
         if (data.containsKey("price")) ap.setPrice(Double.parseDouble(data.get("price")));
         if (data.containsKey("bedrooms")) ap.setBedrooms(Integer.parseInt(data.get("bedrooms")));
         if (data.containsKey("location")) ap.setLocation(data.get("location"));
+        if (data.containsKey("latitude")) ap.setLatitude(parseCoordinate(data.get("latitude")));
+        if (data.containsKey("longitude")) ap.setLongitude(parseCoordinate(data.get("longitude")));
         if (data.containsKey("description")) {
             // Re-embed owner marker when changing description
             String newDesc = data.get("description");
             ap.setDescription(embedOwnerInDescription(newDesc, userId));
         }
         if (data.containsKey("status")) ap.setStatus(data.get("status"));
-        apartmentRepository.save(ap);
+        notifyUpdated(apartmentRepository.save(ap));
         return true;
     }
 
+    // Blank clears the coordinate so the listing falls back to the geocoded location
+    public static Double parseCoordinate(String value) {
+        return value == null || value.isBlank() ? null : Double.parseDouble(value.trim());
+    }
+
+    private void notifyUpdated(Apartment apartment) {
+        outboxService.record(OutboxEvent.AGGREGATE_APARTMENT, apartment.getApartmentID(), ApartmentEvent.Type.UPDATED.name(), apartment);
+    }
+
+    private void notifyRemoved(Integer apartmentID) {
+        outboxService.record(OutboxEvent.AGGREGATE_APARTMENT, apartmentID, ApartmentEvent.Type.REMOVED.name(), apartmentID);
+    }
+
     public List<Apartment> getApartmentsByOwner(Long userId) {
         List<Apartment> all = apartmentRepository.findAll();
         java.util.List<Apartment> filtered = new java.util.ArrayList<>();
@@ -135,6 +156,7 @@ public class ApartmentService {
         return filtered;
     }
 
+    @Transactional
     public boolean updateApartmentDescription(Integer apartmentID, String imageUrl) {
         Optional<Apartment> optionalApartment = apartmentRepository.findById(apartmentID);
 
@@ -147,7 +169,7 @@ public class ApartmentService {
                 desc = embedOwnerInDescription(desc, owner);
             }
             apartment.setDescription(desc);
-            apartmentRepository.save(apartment);
+            notifyUpdated(apartmentRepository.save(apartment));
             return true;
         }
 
@@ -0,0 +1,79 @@
+package com.propertyhub.apartment.service;
+
+import com.propertyhub.apartment.dto.ApartmentChanges;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.entity.ApartmentTombstone;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.apartment.repository.ApartmentTombstoneRepository;
+import com.propertyhub.apartment.search.ApartmentSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync over the apartment catalogue, keyed by SQL Server ROWVERSION.
+ *
+ * Inserts and updates bump Apartments.row_version and deletes leave a tombstone drawn from the same counter,
+ * so one cursor orders both. Each call is bounded by the committed version taken at its start, which keeps
+ * a slow transaction's rows from being skipped once a later one commits.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ApartmentSyncService {
+
+    @Autowired
+    private ApartmentRepository apartmentRepository;
+
+    @Autowired
+    private ApartmentTombstoneRepository tombstoneRepository;
+
+    /** Records a delete in the caller's transaction, so the tombstone exists exactly when the row is gone. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Integer apartmentID) {
+        tombstoneRepository.insert(apartmentID);
+    }
+
+    /** Moves whenever a listing is added, updated or deleted, so it can stand in for the whole catalogue in an ETag. */
+    public long catalogueVersion() {
+        return apartmentRepository.committedVersion();
+    }
+
+    public ApartmentChanges changesSince(long since, int limit) {
+        long upTo = apartmentRepository.committedVersion();
+        if (since >= upTo) return new ApartmentChanges(List.of(), List.of(), Math.max(since, upTo), false);
+
+        // Each source is read one past the limit; merging by version then tells whether anything is left
+        List<Apartment> changed = apartmentRepository.findChangedBetween(since, upTo, limit + 1);
+        List<ApartmentTombstone> deleted = tombstoneRepository.findDeletedBetween(since, upTo, limit + 1);
+
+        List<Apartment> upserts = new ArrayList<>();
+        List<Integer> deletes = new ArrayList<>();
+        long cursor = since;
+        int a = 0, d = 0;
+        while (upserts.size() + deletes.size() < limit && (a < changed.size() || d < deleted.size())) {
+            long apartmentVersion = a < changed.size() ? version(changed.get(a).getRowVersion()) : Long.MAX_VALUE;
+            long tombstoneVersion = d < deleted.size() ? version(deleted.get(d).getRowVersion()) : Long.MAX_VALUE;
+            if (apartmentVersion < tombstoneVersion) {
+                // Detached copy without the owner marker; the managed entity is left as loaded
+                upserts.add(ApartmentSearchIndex.publicCopy(changed.get(a++)));
+                cursor = apartmentVersion;
+            } else {
+                deletes.add(deleted.get(d++).getApartmentID());
+                cursor = tombstoneVersion;
+            }
+        }
+        boolean hasMore = a < changed.size() || d < deleted.size();
+        // A complete page has seen everything committed up to upTo, so the client can resume from there
+        return new ApartmentChanges(upserts, deletes, hasMore ? cursor : upTo, hasMore);
+    }
+
+    // ROWVERSION is an 8-byte big-endian counter
+    private static long version(byte[] rowVersion) {
+        return rowVersion == null ? 0 : ByteBuffer.wrap(rowVersion).getLong();
+    }
+}
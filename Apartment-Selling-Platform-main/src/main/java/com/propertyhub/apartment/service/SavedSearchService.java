@@ -0,0 +1,87 @@
+package com.propertyhub.apartment.service;
+
+import com.propertyhub.apartment.entity.SavedSearch;
+import com.propertyhub.apartment.repository.SavedSearchRepository;
+import com.propertyhub.apartment.search.SavedSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+public class SavedSearchService {
+
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    private SavedSearchIndex savedSearchIndex;
+
+    @Value("${apartment.alerts.max-searches-per-user:50}")
+    private int maxSearchesPerUser;
+
+    @Transactional
+    public SavedSearch createSavedSearch(SavedSearch search) {
+        if (search.getUserID() == null) {
+            throw new RuntimeException("userId is required");
+        }
+        if (search.getMinPrice() != null && search.getMaxPrice() != null && search.getMinPrice() > search.getMaxPrice()) {
+            throw new RuntimeException("minPrice cannot be greater than maxPrice");
+        }
+        if (search.getMinBedrooms() != null && search.getMaxBedrooms() != null
+                && search.getMinBedrooms() > search.getMaxBedrooms()) {
+            throw new RuntimeException("minBedrooms cannot be greater than maxBedrooms");
+        }
+        if (savedSearchRepository.countByUserIDAndActiveTrue(search.getUserID()) >= maxSearchesPerUser) {
+            throw new RuntimeException("A user can keep at most " + maxSearchesPerUser + " saved searches");
+        }
+        search.setActive(true);
+        SavedSearch saved = savedSearchRepository.save(search);
+        afterCommit(() -> savedSearchIndex.add(saved));
+        return saved;
+    }
+
+    public List<SavedSearch> getUserSavedSearches(Long userID) {
+        return savedSearchRepository.findByUserIDOrderByCreatedAtDesc(userID);
+    }
+
+    @Transactional
+    public boolean deleteSavedSearch(Long savedSearchID, Long userID) {
+        Optional<SavedSearch> existing = savedSearchRepository.findById(savedSearchID);
+        if (existing.isEmpty() || !existing.get().getUserID().equals(userID)) return false;
+        savedSearchRepository.deleteById(savedSearchID);
+        afterCommit(() -> savedSearchIndex.remove(savedSearchID));
+        return true;
+    }
+
+    /** Removes a user's saved searches; called in the same transaction that deletes the account. */
+    @Transactional
+    public void deleteUserSavedSearches(Long userID) {
+        List<Long> ids = savedSearchRepository.findByUserIDOrderByCreatedAtDesc(userID).stream()
+                .map(SavedSearch::getSavedSearchID)
+                .toList();
+        if (ids.isEmpty()) return;
+        savedSearchRepository.deleteAllByIdInBatch(ids);
+        afterCommit(() -> ids.forEach(savedSearchIndex::remove));
+    }
+
+    // The matcher only sees a search once its row exists; a rolled-back insert or delete must not reach it
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.propertyhub.apartment.strategy;
+
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.geo.GeoPoint;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Concrete strategy to sort apartments by distance from an origin, nearest first.
+ * Apartments that cannot be placed go last.
+ */
+public class DistanceSortingStrategy implements ApartmentSortingStrategy {
+
+    private final GeoPoint origin;
+    private final Function<Apartment, GeoPoint> locator;
+
+    public DistanceSortingStrategy(GeoPoint origin, Function<Apartment, GeoPoint> locator) {
+        this.origin = origin;
+        this.locator = locator;
+    }
+
+    @Override
+    public List<Apartment> sort(List<Apartment> apartments) {
+        // Work out each distance once rather than on every comparison
+        Map<Apartment, Double> distances = new IdentityHashMap<>();
+        for (Apartment apartment : apartments) {
+            GeoPoint point = locator.apply(apartment);
+            distances.put(apartment, point == null ? null : origin.distanceKm(point));
+        }
+        return apartments.stream()
+                .sorted(Comparator.comparing(distances::get, Comparator.nullsLast(Double::compareTo)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,281 @@
+package com.propertyhub.apartment.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.apartment.dto.ApartmentImportSummary;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.observer.ApartmentNotificationService;
+import com.propertyhub.apartment.observer.ApartmentObserver;
+import com.propertyhub.apartment.search.ApartmentSearchIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes listing-added, listing-updated and listing-removed events to browsers over Server-Sent Events,
+ * so pages can load the catalogue once and apply changes instead of polling the full list.
+ *
+ * Emitters are asynchronous, so an idle connection holds a socket and a small buffer but no request thread.
+ * Each connection gets a bounded buffer drained by a small shared sender pool; a consumer that lets its buffer
+ * fill is evicted rather than allowed to hold up the others. Recent events are kept in a ring so a browser that
+ * reconnects with {@code Last-Event-ID} (EventSource does this on its own) picks up where it left off; when the
+ * gap is no longer in the ring it is told to resync with a full reload.
+ */
+@Component
+public class ApartmentChangeStream implements ApartmentObserver {
+
+    private static final Logger log = LoggerFactory.getLogger(ApartmentChangeStream.class);
+
+    public static final String LISTING_ADDED = "listing-added";
+    public static final String LISTING_UPDATED = "listing-updated";
+    public static final String LISTING_REMOVED = "listing-removed";
+    public static final String RESYNC = "resync";
+
+    @Value("${apartment.stream.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${apartment.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${apartment.stream.replay-size:1024}")
+    private int replaySize;
+
+    @Value("${apartment.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${apartment.stream.reconnect-ms:5000}")
+    private long reconnectMs;
+
+    @Value("${apartment.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Autowired
+    private ApartmentNotificationService apartmentNotificationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // A change is serialised once and shared by every connection; a null name marks an SSE comment
+    private record Change(long id, String name, String data) {}
+
+    private static final Change HEARTBEAT = new Change(0, null, "heartbeat");
+
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final ArrayBlockingQueue<Change> buffer;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile boolean completed;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<Change> recent = new ArrayDeque<>();
+    private long lastId;
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicInteger senderCount = new AtomicInteger();
+    private ExecutorService sender;
+
+    @PostConstruct
+    public void init() {
+        sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), r -> {
+            Thread thread = new Thread(r, "apartment-stream-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        apartmentNotificationService.registerObserver(this);
+        if (meterRegistry != null) {
+            Gauge.builder("apartment.stream.connections", subscribers, Set::size)
+                    .description("Open listing change streams").register(meterRegistry);
+            FunctionCounter.builder("apartment.stream.evicted", evicted, AtomicLong::doubleValue)
+                    .description("Streams closed because the client fell behind").register(meterRegistry);
+            FunctionCounter.builder("apartment.stream.published", published, AtomicLong::doubleValue)
+                    .description("Listing changes published to streams").register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) close(subscriber);
+        sender.shutdownNow();
+    }
+
+    /**
+     * Opens a stream, replaying anything after {@code lastEventId} that is still held.
+     * Returns null when the connection limit is reached.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxConnections) return null;
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Math.max(1, bufferSize));
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        // The opening comment flushes headers through proxies and sets the client's reconnect delay
+        subscriber.buffer.offer(new Change(0, null, "connected"));
+        synchronized (recent) {
+            if (lastEventId != null && lastEventId != lastId) {
+                List<Change> missed = missedSince(lastEventId);
+                if (missed == null || missed.size() >= subscriber.buffer.remainingCapacity()) {
+                    subscriber.buffer.offer(new Change(lastId, RESYNC, "{}"));
+                } else {
+                    subscriber.buffer.addAll(missed);
+                }
+            }
+            // Registered under the same lock as publish, so no change falls between the replay and live events
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @Override
+    public void update(Apartment apartment) {
+        publish(LISTING_ADDED, ApartmentSearchIndex.publicCopy(apartment));
+    }
+
+    @Override
+    public void onApartmentUpdated(Apartment apartment) {
+        publish(LISTING_UPDATED, ApartmentSearchIndex.publicCopy(apartment));
+    }
+
+    @Override
+    public void onApartmentRemoved(Integer apartmentID) {
+        publish(LISTING_REMOVED, Map.of("apartmentID", apartmentID));
+    }
+
+    // Too many rows to push one by one; open pages reload the catalogue instead
+    @Override
+    public void onApartmentsImported(ApartmentImportSummary summary) {
+        publish(RESYNC, summary);
+    }
+
+    // Keeps intermediaries from closing idle connections and finds clients that went away without a FIN
+    @Scheduled(initialDelayString = "${apartment.stream.heartbeat-ms:20000}",
+            fixedDelayString = "${apartment.stream.heartbeat-ms:20000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            // A full buffer is already behind; the next change will evict it
+            if (subscriber.buffer.offer(HEARTBEAT)) schedule(subscriber);
+        }
+    }
+
+    private void publish(String name, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialise " + name + " event", e);
+        }
+        synchronized (recent) {
+            Change change = new Change(++lastId, name, data);
+            recent.addLast(change);
+            while (recent.size() > replaySize) recent.removeFirst();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.buffer.offer(change)) schedule(subscriber);
+                else evict(subscriber);
+            }
+        }
+        published.incrementAndGet();
+    }
+
+    // Caller holds the recent lock; null when the ring no longer reaches back to lastEventId,
+    // or when the id is from before a restart reset the sequence
+    private List<Change> missedSince(long lastEventId) {
+        if (lastEventId > lastId || recent.isEmpty() || recent.peekFirst().id() > lastEventId + 1) return null;
+        List<Change> missed = new ArrayList<>();
+        for (Change change : recent) {
+            if (change.id() > lastEventId) missed.add(change);
+        }
+        return missed;
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) return;
+        subscribers.remove(subscriber);
+        subscriber.buffer.clear();
+        evicted.incrementAndGet();
+        log.atInfo().setMessage("listing stream evicted slow consumer")
+                .addKeyValue("connections", subscribers.size())
+                .log();
+        // Completing can wait on a send in progress, so it is left to the sender rather than the publisher
+        schedule(subscriber);
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscriber.completed = true;
+        subscribers.remove(subscriber);
+        subscriber.buffer.clear();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) return;
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RuntimeException e) {
+            // Executor shut down
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Change change;
+            while (!subscriber.closed.get() && (change = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(toEvent(change));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the emitter's error callback does the bookkeeping
+            close(subscriber);
+        } finally {
+            if (subscriber.closed.get() && !subscriber.completed) {
+                subscriber.completed = true;
+                subscriber.emitter.complete();
+            }
+            subscriber.draining.set(false);
+        }
+        // Anything offered after the last poll but before draining was cleared still needs a sender
+        if (!subscriber.closed.get() && !subscriber.buffer.isEmpty()) schedule(subscriber);
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Change change) {
+        if (change.name() == null) {
+            SseEmitter.SseEventBuilder comment = SseEmitter.event().comment(change.data());
+            return change == HEARTBEAT ? comment : comment.reconnectTime(reconnectMs);
+        }
+        return SseEmitter.event().id(Long.toString(change.id())).name(change.name()).data(change.data());
+    }
+}
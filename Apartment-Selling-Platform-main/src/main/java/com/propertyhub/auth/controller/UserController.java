@@ -3,6 +3,7 @@ package com.propertyhub.auth.controller;
 import com.propertyhub.auth.entity.UserActivity;
 import com.propertyhub.auth.entity.SavedProperty;
 import com.propertyhub.auth.service.UserService;
+import com.propertyhub.cache.ContentVersions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +24,9 @@ public class UserController {
     @Autowired
     private com.propertyhub.auth.repository.UserRepository userRepository;
 
+    @Autowired
+    private ContentVersions contentVersions;
+
     @PostMapping("/activity")
     public ResponseEntity<Map<String, Object>> trackActivity(@RequestBody Map<String, Object> activityData) {
         Map<String, Object> response = new HashMap<>();
@@ -271,6 +275,8 @@ public class UserController {
                     }
 
                     userRepository.save(user);
+                    // Review responses show the author's name
+                    contentVersions.changed(ContentVersions.REVIEWS);
 
                     response.put("success", true);
                     response.put("message", "Profile updated successfully");
@@ -293,7 +299,7 @@ public class UserController {
             return ResponseEntity.status(404).body(res);
         }
         try {
-            userRepository.deleteById(userId);
+            userService.deleteAccount(userId);
             res.put("success", true);
             res.put("message", "Account deleted");
             return ResponseEntity.ok(res);
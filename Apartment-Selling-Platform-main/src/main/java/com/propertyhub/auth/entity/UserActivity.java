@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 @Table(name = "UserActivities")
 public class UserActivity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_activity_seq")
+    @SequenceGenerator(name = "user_activity_seq", sequenceName = "UserActivitySeq", allocationSize = 50)
     private Long activityID;
 
     @Column(nullable = false)
@@ -2,91 +2,106 @@ package com.propertyhub.auth.service;
 
 import com.propertyhub.auth.entity.User;
 import com.propertyhub.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     @Autowired
     private UserRepository userRepository;
 
     private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     public Optional<User> login(String email, String password) {
-        System.out.println("=== AUTH SERVICE LOGIN ===");
-        System.out.println("Email: " + email);
-
         try {
             Optional<User> userOpt = userRepository.findByEmail(email);
-            System.out.println("User found: " + userOpt.isPresent());
 
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
-                System.out.println("Stored password hash: " + user.getPassword());
-                System.out.println("Input password: " + password);
 
                 // Check if password matches
-                boolean passwordMatches = passwordEncoder.matches(password, user.getPassword());
-                System.out.println("Password matches: " + passwordMatches);
-
-                if (passwordMatches) {
-                    System.out.println("LOGIN SUCCESS for: " + email);
+                if (passwordEncoder.matches(password, user.getPassword())) {
+                    log.atInfo().setMessage("login succeeded")
+                            .addKeyValue("event", "auth.login")
+                            .addKeyValue("outcome", "success")
+                            .addKeyValue("userID", user.getUserID())
+                            .log();
                     return Optional.of(user);
-                } else {
-                    System.out.println("PASSWORD MISMATCH for: " + email);
                 }
+                log.atInfo().setMessage("login rejected")
+                        .addKeyValue("event", "auth.login")
+                        .addKeyValue("outcome", "bad_password")
+                        .addKeyValue("userID", user.getUserID())
+                        .log();
             } else {
-                System.out.println("USER NOT FOUND for email: " + email);
+                log.atInfo().setMessage("login rejected")
+                        .addKeyValue("event", "auth.login")
+                        .addKeyValue("outcome", "unknown_user")
+                        .addKeyValue("email", maskEmail(email))
+                        .log();
             }
         } catch (Exception e) {
-            System.err.println("ERROR in AuthService.login(): " + e.getMessage());
-            e.printStackTrace();
+            log.atError().setMessage("login failed")
+                    .addKeyValue("event", "auth.login")
+                    .addKeyValue("outcome", "error")
+                    .setCause(e)
+                    .log();
         }
 
         return Optional.empty();
     }
 
+    @Transactional
     public User register(String name, String email, String phone, String password) {
-        System.out.println("=== AUTH SERVICE REGISTER ===");
-        System.out.println("Registering: " + email);
+        if (userRepository.existsByEmail(email)) {
+            log.atInfo().setMessage("registration rejected")
+                    .addKeyValue("event", "auth.register")
+                    .addKeyValue("outcome", "duplicate_email")
+                    .addKeyValue("email", maskEmail(email))
+                    .log();
+            throw new RuntimeException("Email already exists");
+        }
 
         try {
-            boolean emailExists = userRepository.existsByEmail(email);
-            System.out.println("Email exists: " + emailExists);
-
-            if (emailExists) {
-                throw new RuntimeException("Email already exists");
-            }
-
             User user = new User();
             user.setName(name);
             user.setEmail(email);
             user.setPhone(phone);
 
             // Encode the password
-            String encodedPassword = passwordEncoder.encode(password);
-            System.out.println("Original password: " + password);
-            System.out.println("Encoded password: " + encodedPassword);
-
-            user.setPassword(encodedPassword);
+            user.setPassword(passwordEncoder.encode(password));
             user.setCreatedAt(LocalDateTime.now());
 
             User savedUser = userRepository.save(user);
-            System.out.println("REGISTRATION SUCCESS: " + savedUser.getEmail());
+            log.atInfo().setMessage("registration succeeded")
+                    .addKeyValue("event", "auth.register")
+                    .addKeyValue("outcome", "success")
+                    .addKeyValue("userID", savedUser.getUserID())
+                    .log();
 
             return savedUser;
-        } catch (Exception e) {
-            System.err.println("ERROR in AuthService.register(): " + e.getMessage());
-            e.printStackTrace();
+        } catch (RuntimeException e) {
+            log.atError().setMessage("registration failed")
+                    .addKeyValue("event", "auth.register")
+                    .addKeyValue("outcome", "error")
+                    .setCause(e)
+                    .log();
             throw e;
         }
     }
 
     // Temporary method to handle plain text passwords during transition
+    @Transactional
     public Optional<User> loginWithFallback(String email, String password) {
         Optional<User> userOpt = userRepository.findByEmail(email);
 
@@ -100,7 +115,11 @@ public class AuthService {
             }
             // Fallback: check plain text (for existing users)
             else if (storedPassword.equals(password)) {
-                System.out.println("Using plain text fallback for: " + email);
+                log.atWarn().setMessage("plain text password upgraded to bcrypt")
+                        .addKeyValue("event", "auth.login")
+                        .addKeyValue("outcome", "legacy_password")
+                        .addKeyValue("userID", user.getUserID())
+                        .log();
                 // Update to encoded password for next time
                 user.setPassword(passwordEncoder.encode(password));
                 userRepository.save(user);
@@ -109,4 +128,12 @@ public class AuthService {
         }
         return Optional.empty();
     }
-}
\ No newline at end of file
+
+    // Keeps enough of the address to correlate attempts without logging it in full
+    private static String maskEmail(String email) {
+        if (email == null) return null;
+        int at = email.indexOf('@');
+        if (at <= 1) return "***" + (at >= 0 ? email.substring(at) : "");
+        return email.charAt(0) + "***" + email.substring(at);
+    }
+}
@@ -1,9 +1,12 @@
 package com.propertyhub.auth.service;
 
+import com.propertyhub.apartment.service.SavedSearchService;
 import com.propertyhub.auth.entity.SavedProperty;
 import com.propertyhub.auth.entity.UserActivity;
 import com.propertyhub.auth.repository.SavedPropertyRepository;
 import com.propertyhub.auth.repository.UserActivityRepository;
+import com.propertyhub.auth.repository.UserRepository;
+import com.propertyhub.review.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@Transactional(readOnly = true)
 public class UserService {
 
     @Autowired
@@ -21,6 +25,16 @@ public class UserService {
     @Autowired
     private SavedPropertyRepository savedPropertyRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    @Transactional
     public UserActivity trackActivity(Long userID, String activityType, String description, String relatedData) {
         UserActivity activity = new UserActivity(userID, activityType, description, relatedData);
         return activityRepository.save(activity);
@@ -30,6 +44,7 @@ public class UserService {
         return activityRepository.findByUserIDOrderByCreatedAtDesc(userID);
     }
 
+    @Transactional
     public SavedProperty saveProperty(Long userID, String price, String address, String features, String propertyData) {
         // Check if property is already saved
         if (savedPropertyRepository.existsByUserIDAndPropertyAddress(userID, address)) {
@@ -167,4 +182,13 @@ public class UserService {
 
         return dashboardData;
     }
+
+    // Reviews and saved searches are deleted first, so the caches built on them hear about it; activities and saved
+    // properties go with the ON DELETE CASCADE
+    @Transactional
+    public void deleteAccount(Long userID) {
+        reviewService.deleteUserReviews(userID);
+        savedSearchService.deleteUserSavedSearches(userID);
+        userRepository.deleteById(userID);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.propertyhub.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers conditional GETs for one response family before the handler runs.
+ *
+ * The ETag is the family's content version, so a matching If-None-Match gets a bodiless 304 for the price of one
+ * primary-key lookup. Tags are weak because the same version may go out gzipped or not, and Tomcat will not
+ * compress a response that carries a strong ETag.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ContentVersions contentVersions;
+    private final String family;
+
+    public ConditionalGetInterceptor(ContentVersions contentVersions, String family) {
+        this.contentVersions = contentVersions;
+        this.family = family;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) return true;
+
+        String version = contentVersions.current(family);
+        if (version != null) {
+            String etag = "W/\"" + family + "-" + version + "\"";
+            // Sets the ETag header either way, and the 304 status when the client's copy is current
+            if (new ServletWebRequest(request, response).checkNotModified(etag)) return false;
+        }
+        // Cache, but revalidate on every use: the tag makes that a near-empty round trip
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package com.propertyhub.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Version numbers for cacheable response families, used to build ETags without hashing bodies.
+ *
+ * Versions live in the ContentVersions table, so every instance agrees on them. Services call {@link #changed}
+ * whenever data behind a family changes; the bump is part of the caller's transaction and becomes visible exactly
+ * when the change does. Until the in-memory caches of this instance have caught up with its own commit, the
+ * family has no version at all, so a request racing that commit is not tagged with content it did not serve.
+ */
+@Component
+public class ContentVersions {
+
+    /** Approved reviews and everything derived from them (lists, feed, search, rating stats). */
+    public static final String REVIEWS = "reviews";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, AtomicInteger> settling = new ConcurrentHashMap<>();
+
+    /** The family's current version, or null while a change made here is still reaching the caches. */
+    public String current(String family) {
+        if (settling(family).get() > 0) return null;
+        List<Long> version = jdbcTemplate.queryForList(
+                "SELECT version FROM ContentVersions WHERE family = ?", Long.class, family);
+        return version.isEmpty() ? "0" : Long.toString(version.get(0));
+    }
+
+    public void changed(String family) {
+        jdbcTemplate.update("UPDATE ContentVersions SET version = version + 1 WHERE family = ?", family);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        // afterCompletion runs after every afterCommit callback, i.e. once the caches have been updated
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing = true;
+                settling(family).incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (committing) settling(family).decrementAndGet();
+            }
+        });
+    }
+
+    private AtomicInteger settling(String family) {
+        return settling.computeIfAbsent(family, f -> new AtomicInteger());
+    }
+}
@@ -0,0 +1,44 @@
+package com.propertyhub.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps read endpoints to the content version that decides whether their responses are still current.
+ * The apartment catalogue takes its version from the Apartments row versions instead (see ApartmentSyncService).
+ *
+ * Fingerprinted build output under /assets never changes at a given URL, so it is cached as immutable.
+ * Pages and unversioned files use the default handler, which revalidates (spring.web.resources.*).
+ */
+@Configuration
+public class HttpCachingConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ContentVersions contentVersions;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(contentVersions, ContentVersions.REVIEWS))
+                .addPathPatterns("/api/reviews/approved", "/api/reviews/approved/feed", "/api/reviews/search",
+                        "/api/reviews/stats", "/api/reviews/stats/**");
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                // Serves the .br or .gz written at build time when the client accepts it
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+    }
+}
@@ -0,0 +1,48 @@
+package com.propertyhub.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes Hikari pools from the core count when {@code db.pool.connections-per-core} is set (the prod profile does),
+ * following HikariCP's guidance of roughly two connections per core plus a few for I/O waits. Queries beyond that
+ * queue in the pool instead of contending on the database server. An explicit
+ * {@code spring.datasource.hikari.maximum-pool-size} always wins.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolConfig.class);
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // After initialisation so spring.datasource.hikari.* has been bound; the pool itself starts on first use
+                if (bean instanceof HikariDataSource pool) sizeFromCores(pool, beanName, environment);
+                return bean;
+            }
+        };
+    }
+
+    static void sizeFromCores(HikariDataSource pool, String name, Environment environment) {
+        int perCore = environment.getProperty("db.pool.connections-per-core", Integer.class, 0);
+        if (perCore <= 0 || environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) return;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int size = cores * perCore + environment.getProperty("db.pool.extra-connections", Integer.class, 0);
+        pool.setMaximumPoolSize(size);
+        log.atInfo().setMessage("connection pool sized from core count")
+                .addKeyValue("pool", name)
+                .addKeyValue("cores", cores)
+                .addKeyValue("maximumPoolSize", size)
+                .log();
+    }
+}
@@ -0,0 +1,65 @@
+package com.propertyhub.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Warns when threads are queued waiting for a database connection, which means requests are blocked on the pool
+ * rather than on the database. Counts come from the pool's MXBean; the same figures are published as the
+ * {@code hikaricp.connections.*} meters (active, idle, pending, acquire, usage) under /actuator/metrics.
+ * Warnings are limited to one per pool per {@code db.pool.wait-warn-interval-ms} while the condition lasts.
+ */
+@Component
+public class ConnectionPoolMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolMonitor.class);
+
+    @Autowired
+    private List<HikariDataSource> pools;
+
+    // Replica pools are not beans of their own
+    @Autowired
+    private ObjectProvider<ReplicaDataSource> replicaDataSource;
+
+    @Value("${db.pool.wait-warn-interval-ms:10000}")
+    private long warnIntervalMs;
+
+    private final Map<String, Long> lastWarned = new ConcurrentHashMap<>();
+
+    @Scheduled(initialDelayString = "${db.pool.wait-check-ms:1000}", fixedDelayString = "${db.pool.wait-check-ms:1000}")
+    public void checkWaiters() {
+        long now = System.currentTimeMillis();
+        List<HikariDataSource> all = new ArrayList<>(pools);
+        replicaDataSource.ifAvailable(replicas -> all.addAll(replicas.getReplicaPools()));
+        for (HikariDataSource pool : all) {
+            HikariPoolMXBean stats = pool.getHikariPoolMXBean();
+            // Null until the pool has started
+            if (stats == null) continue;
+            int waiting = stats.getThreadsAwaitingConnection();
+            if (waiting == 0) continue;
+            Long previous = lastWarned.get(pool.getPoolName());
+            if (previous != null && now - previous < warnIntervalMs) continue;
+            lastWarned.put(pool.getPoolName(), now);
+            log.atWarn().setMessage("threads blocked waiting for a database connection")
+                    .addKeyValue("pool", pool.getPoolName())
+                    .addKeyValue("waiting", waiting)
+                    .addKeyValue("active", stats.getActiveConnections())
+                    .addKeyValue("idle", stats.getIdleConnections())
+                    .addKeyValue("max", pool.getMaximumPoolSize())
+                    .addKeyValue("connectionTimeoutMs", pool.getConnectionTimeout())
+                    .log();
+        }
+    }
+}
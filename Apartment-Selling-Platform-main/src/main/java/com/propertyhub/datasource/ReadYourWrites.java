@@ -0,0 +1,38 @@
+package com.propertyhub.datasource;
+
+/**
+ * Marks the current thread as needing the primary even for read-only transactions, because it has just written
+ * (or acts for a client that has) and a replica may not have caught up yet.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    /** Runs {@code task} with every read on the primary, then restores the previous state. */
+    public static void onPrimary(Runnable task) {
+        if (isPinned()) {
+            task.run();
+            return;
+        }
+        pin();
+        try {
+            task.run();
+        } finally {
+            unpin();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.propertyhub.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Keeps a client on the primary while its own writes may not have reached the replicas yet.
+ *
+ * Requests that can change data (anything but GET, HEAD and OPTIONS) read from the primary throughout and set a
+ * cookie holding the end of the read-your-writes window; later requests carrying an unexpired cookie are pinned
+ * too. The cookie rather than server state means any instance behind the load balancer honours it.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "primary-until";
+
+    private final long windowMs;
+
+    public ReadYourWritesFilter(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        long until = pinnedUntil(request);
+        // A value further out than one window did not come from here
+        boolean pinned = until > now && until <= now + windowMs;
+        if (!isSafe(request.getMethod())) {
+            pinned = true;
+            // Set before the handler runs, while the response can still take headers
+            Cookie cookie = new Cookie(COOKIE, Long.toString(now + windowMs));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (windowMs + 999) / 1000));
+            response.addCookie(cookie);
+        }
+        if (!pinned) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReadYourWrites.pin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.unpin();
+        }
+    }
+
+    private static boolean isSafe(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return 0;
+        for (Cookie cookie : cookies) {
+            if (!COOKIE.equals(cookie.getName())) continue;
+            try {
+                return Long.parseLong(cookie.getValue());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,119 @@
+package com.propertyhub.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections for read-only transactions: round-robin over the replicas that passed their last health
+ * check, or the primary when none did or the thread is pinned by {@link ReadYourWrites}. A replica that fails to
+ * give a connection is taken out until the next successful check, and the read goes to the primary instead.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private static final class Replica {
+        final HikariDataSource pool;
+        volatile boolean healthy = true;
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(HikariDataSource primary, List<HikariDataSource> replicas, int validationTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    public List<HikariDataSource> getReplicaPools() {
+        return replicas.stream().map(replica -> replica.pool).toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(username, password);
+    }
+
+    // Whether the replica behind this pool is currently handed reads
+    boolean isInRotation(HikariDataSource pool) {
+        return replicas.stream().anyMatch(replica -> replica.pool == pool && replica.healthy);
+    }
+
+    // Null credentials mean the pool's own
+    private Connection connect(String username, String password) throws SQLException {
+        if (!ReadYourWrites.isPinned()) {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (!replica.healthy) continue;
+                try {
+                    return open(replica.pool, username, password);
+                } catch (SQLFeatureNotSupportedException e) {
+                    // Hikari pools do not take per-call credentials; the replica itself is fine
+                    throw e;
+                } catch (SQLException e) {
+                    markDown(replica, e);
+                }
+            }
+        }
+        return open(primary, username, password);
+    }
+
+    private static Connection open(HikariDataSource pool, String username, String password) throws SQLException {
+        return username == null ? pool.getConnection() : pool.getConnection(username, password);
+    }
+
+    // The primary is a bean of its own and closed with it
+    @Override
+    public void close() {
+        for (Replica replica : replicas) replica.pool.close();
+    }
+
+    /** Probes every replica, bringing recovered ones back and taking out those that no longer answer. */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.pool.getConnection()) {
+                healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                replica.healthy = healthy;
+                log.atWarn().setMessage(healthy ? "read replica back in rotation" : "read replica out of rotation")
+                        .addKeyValue("pool", replica.pool.getPoolName())
+                        .log();
+            }
+        }
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (!replica.healthy) return;
+        replica.healthy = false;
+        log.atWarn().setMessage("read replica out of rotation")
+                .addKeyValue("pool", replica.pool.getPoolName())
+                .addKeyValue("error", e.getMessage())
+                .log();
+    }
+}
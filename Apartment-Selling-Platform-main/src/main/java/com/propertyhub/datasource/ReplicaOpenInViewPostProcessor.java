@@ -0,0 +1,28 @@
+package com.propertyhub.datasource;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+
+/**
+ * Switches {@code spring.jpa.open-in-view} off when {@code db.replica.urls} is set. Open-in-view keeps one
+ * EntityManager, and with it the first connection fetched, for the whole request, so every later transaction of the
+ * request would run on whichever database the first one went to: writes could land on a replica and reads after a
+ * write would miss the primary.
+ */
+public class ReplicaOpenInViewPostProcessor implements EnvironmentPostProcessor {
+
+    static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!StringUtils.hasText(environment.getProperty("db.replica.urls"))) return;
+        // First, so an explicit open-in-view=true cannot quietly undo the routing
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("replicaRouting", Map.of(OPEN_IN_VIEW, "false")));
+    }
+}
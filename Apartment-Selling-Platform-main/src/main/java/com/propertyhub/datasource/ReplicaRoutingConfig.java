@@ -0,0 +1,117 @@
+package com.propertyhub.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to read replicas when {@code db.replica.urls} is set; without it the default
+ * single DataSource is used as before.
+ *
+ * The application DataSource is a {@link LazyConnectionDataSourceProxy} over the primary. It only fetches a real
+ * connection at the first statement; when a {@code readOnly} transaction begins, Spring's Hibernate dialect calls
+ * {@code setReadOnly(true)} on the still-unfetched proxy, which then takes the connection from the
+ * {@link ReplicaDataSource}. That covers {@code @Transactional(readOnly = true)} service methods and Spring Data's own
+ * read methods. The dialect only does this while Hibernate holds its connection for the whole session (Spring's
+ * default), so the connection handling mode is left alone. Each transaction still gets a connection of its own
+ * because open-in-view is switched off alongside this configuration (see {@link ReplicaOpenInViewPostProcessor}).
+ * Requests that change data, and for a short window afterwards the client that sent them, read from the primary
+ * (see {@link ReadYourWritesFilter}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.replica.urls")
+public class ReplicaRoutingConfig {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectProvider<ReplicaDataSource> replicas;
+
+    @Value("${db.replica.urls}")
+    private String[] replicaUrls;
+
+    @Value("${db.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${db.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    // Short, so a replica that has gone away costs a read little before it falls back to the primary
+    @Value("${db.replica.connection-timeout-ms:1000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${db.replica.validation-timeout-seconds:2}")
+    private int validationTimeoutSeconds;
+
+    @Value("${db.replica.read-your-writes-ms:5000}")
+    private long readYourWritesMs;
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPool(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryPool, DataSourceProperties properties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls[i].trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            // Same tuning as the primary, apart from its name and the fail-fast connection timeout
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName((primaryPool.getPoolName() == null ? "propertyhub" : primaryPool.getPoolName()) + "-replica-" + (i + 1));
+            pool.setConnectionTimeout(replicaConnectionTimeoutMs);
+            pool.setReadOnly(true);
+            ConnectionPoolConfig.sizeFromCores(pool, pool.getPoolName(), environment);
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            pools.add(pool);
+        }
+        return new ReplicaDataSource(primaryPool, pools, validationTimeoutSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryPool, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryPool);
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter(readYourWritesMs);
+    }
+
+    @Scheduled(initialDelayString = "${db.replica.health-check-ms:5000}", fixedDelayString = "${db.replica.health-check-ms:5000}")
+    public void checkReplicas() {
+        replicas.getObject().checkHealth();
+    }
+}
@@ -0,0 +1,50 @@
+package com.propertyhub.outbox.repository;
+
+import com.propertyhub.outbox.entity.OutboxEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Pending events nobody holds a live claim on, locked until the claim is written. READPAST only keeps an
+    // overlapping poll (say, during a redeploy) from blocking on that lock; draining is single-instance, see OutboxPoller.
+    @Query(value = "SELECT TOP (:limit) * FROM OutboxEvents WITH (UPDLOCK, READPAST, ROWLOCK) " +
+            "WHERE processed_at IS NULL AND attempts < :maxAttempts " +
+            "AND (claimed_until IS NULL OR claimed_until < :now) ORDER BY eventID", nativeQuery = true)
+    List<OutboxEvent> lockPendingBatch(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts,
+                                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = :until WHERE e.eventID IN :ids")
+    int claim(@Param("ids") List<Long> ids, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = NULL WHERE e.eventID IN :ids")
+    int releaseClaims(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.processedAt = :processedAt WHERE e.eventID IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.claimedUntil = NULL WHERE e.eventID = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error);
+
+    // Native writes clear the whole second-level cache unless they name the tables they touch
+    @Modifying
+    @Query(value = "DELETE TOP (:limit) FROM OutboxEvents WHERE processed_at < :cutoff", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "OutboxEvents"))
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    long countByProcessedAtIsNull();
+}
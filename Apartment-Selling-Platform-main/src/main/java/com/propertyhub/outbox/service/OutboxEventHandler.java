@@ -0,0 +1,21 @@
+package com.propertyhub.outbox.service;
+
+import com.propertyhub.outbox.entity.OutboxEvent;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes outbox events of one aggregate type. Delivery is at-least-once, so handlers must tolerate
+ * seeing the same event again after a crash or a failed batch.
+ */
+public interface OutboxEventHandler {
+    String getAggregateType();
+
+    /**
+     * Starts delivering the event. The event is marked processed once the returned future completes normally. A
+     * failed future releases it for the next poll, where it is handed over again in full, so the future should only
+     * fail when nothing has acted on the event yet; an unfinished one stays claimed. Throwing means the event was
+     * not handed over at all and counts as a failed attempt.
+     */
+    CompletableFuture<Void> handle(OutboxEvent event) throws Exception;
+}
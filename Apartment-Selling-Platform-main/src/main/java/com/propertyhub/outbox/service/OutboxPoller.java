@@ -0,0 +1,218 @@
+package com.propertyhub.outbox.service;
+
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.repository.OutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox: claims a batch of pending events, hands each to the handler for its aggregate type, waits
+ * until the handlers are done with them and marks those processed with a single UPDATE.
+ *
+ * Claiming and marking are short transactions of their own; the wait in between holds no connection or lock. A
+ * claim keeps the events from later polls for claim-timeout-ms, so an event still queued with an observer after
+ * delivery-timeout-ms is not handed over a second time, while one whose claimant died is picked up again once the
+ * claim runs out. Delivery is therefore at-least-once. Only an event that could not be handed over at all counts
+ * as failed, and the rest of its batch waits for the next poll behind it; after max-attempts such failures it is
+ * parked and left for an operator.
+ *
+ * Draining is meant to run on one instance. The claims would keep several pollers from publishing the same event,
+ * but the in-memory indexes and streams among the observers only learn of the events their own instance published.
+ */
+@Component
+public class OutboxPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPoller.class);
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private List<OutboxEventHandler> handlers;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.delivery-timeout-ms:60000}")
+    private long deliveryTimeoutMs;
+
+    @Value("${outbox.claim-timeout-ms:300000}")
+    private long claimTimeoutMs;
+
+    @Value("${outbox.retention-days:7}")
+    private int retentionDays;
+
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile boolean running;
+    private Thread worker;
+    private Map<String, OutboxEventHandler> handlersByType;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        handlersByType = new HashMap<>();
+        for (OutboxEventHandler handler : handlers) handlersByType.put(handler.getAggregateType(), handler);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Only once the application is ready, so handlers never publish into half-initialised observers
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        worker = new Thread(this::run, "outbox-poller");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) worker.interrupt();
+    }
+
+    /** Called after a transaction that recorded events commits. */
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> outboxRepository.deleteProcessedBefore(cutoff, 5000));
+            purged += deleted;
+        } while (deleted > 0);
+        log.atInfo().setMessage("outbox purged").addKeyValue("rows", purged).log();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int claimed = drainBatch();
+                // A full batch means there is probably more waiting; go again without sleeping
+                if (claimed < batchSize) {
+                    wakeups.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                    wakeups.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                log.error("outbox poll failed", e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Number of events claimed. The whole batch is handed over before waiting, so observers work through it
+    // while earlier events are still being acknowledged.
+    int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            List<OutboxEvent> pending = outboxRepository.lockPendingBatch(batchSize, maxAttempts, now);
+            if (!pending.isEmpty()) {
+                outboxRepository.claim(ids(pending), now.plus(claimTimeoutMs, ChronoUnit.MILLIS));
+            }
+            return pending;
+        });
+        if (batch == null || batch.isEmpty()) return 0;
+
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            try {
+                OutboxEventHandler handler = handlersByType.get(event.getAggregateType());
+                if (handler == null) throw new IllegalStateException("No handler for " + event.getAggregateType());
+                deliveries.add(handler.handle(event));
+            } catch (Exception e) {
+                // Nothing has seen this event, so it and everything after it can be retried without duplicates
+                transactionTemplate.executeWithoutResult(status -> recordFailure(event, e));
+                List<Long> rest = ids(batch.subList(deliveries.size() + 1, batch.size()));
+                if (!rest.isEmpty()) transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseClaims(rest));
+                break;
+            }
+        }
+
+        List<Long> done = new ArrayList<>(deliveries.size());
+        List<Long> abandoned = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deliveryTimeoutMs);
+        for (int i = 0; i < deliveries.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            try {
+                deliveries.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                done.add(event.getEventID());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                // Observers only fail an event when shutting down before reaching it
+                abandoned.add(event.getEventID());
+            } catch (TimeoutException e) {
+                // Still queued with an observer; the claim keeps it from being handed over again for now
+            }
+        }
+        if (!done.isEmpty() || !abandoned.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!done.isEmpty()) outboxRepository.markProcessed(done, LocalDateTime.now());
+                if (!abandoned.isEmpty()) outboxRepository.releaseClaims(abandoned);
+            });
+        }
+        return batch.size();
+    }
+
+    private void recordFailure(OutboxEvent event, Throwable cause) {
+        outboxRepository.recordFailure(event.getEventID(), truncate(String.valueOf(cause), 1000));
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            log.atError().setMessage("outbox event parked after repeated failures")
+                    .addKeyValue("eventID", event.getEventID())
+                    .addKeyValue("eventType", event.getEventType())
+                    .addKeyValue("aggregateId", event.getAggregateId())
+                    .setCause(cause)
+                    .log();
+        }
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getEventID).toList();
+    }
+
+    private static String truncate(String text, int max) {
+        return text.length() <= max ? text : text.substring(0, max);
+    }
+}
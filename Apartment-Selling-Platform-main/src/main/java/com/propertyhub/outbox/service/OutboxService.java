@@ -0,0 +1,46 @@
+package com.propertyhub.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.repository.OutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxPoller outboxPoller;
+
+    /**
+     * Records an event as part of the caller's transaction, so it exists exactly when the change commits.
+     * MANDATORY makes a call outside a transaction fail fast instead of writing an orphan event.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        try {
+            outboxRepository.save(new OutboxEvent(aggregateType, String.valueOf(aggregateId), eventType,
+                    objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialise " + aggregateType + " event " + eventType, e);
+        }
+        // Publish as soon as the rows are visible rather than waiting for the next poll
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxPoller.wakeUp();
+            }
+        });
+    }
+}
@@ -10,4 +10,6 @@ public interface RentPaymentRepository extends JpaRepository<RentPayment, Intege
     List<RentPayment> findByUserIDOrderByCreatedAtDesc(Long userID);
     boolean existsByApartmentID(Integer apartmentID);
     void deleteByApartmentID(Integer apartmentID);
+    List<RentPayment> findByStatus(String status);
+    long countByStatus(String status);
 }
\ No newline at end of file
@@ -1,21 +1,46 @@
 package com.propertyhub.payment.service;
 
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.service.OutboxService;
 import com.propertyhub.payment.entity.BuyPayment;
 import com.propertyhub.payment.repository.BuyPaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class BuyPaymentService {
 
     @Autowired
     private BuyPaymentRepository buyPaymentRepository;
 
+    @Autowired
+    private OutboxService outboxService;
+
+    @Transactional
     public BuyPayment addPayment(BuyPayment payment) {
-        return buyPaymentRepository.save(payment);
+        BuyPayment saved = buyPaymentRepository.save(payment);
+        outboxService.record(OutboxEvent.AGGREGATE_PAYMENT, saved.getPurchaseID(),
+                PaymentOutboxHandler.BUY_PAYMENT_CREATED, eventPayload(saved));
+        return saved;
+    }
+
+    // Card details stay out of the outbox
+    private static Map<String, Object> eventPayload(BuyPayment payment) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("purchaseID", payment.getPurchaseID());
+        payload.put("userID", payment.getUserID());
+        payload.put("apartmentID", payment.getApartmentID());
+        payload.put("amount", payment.getOfferAmount());
+        payload.put("askingPrice", payment.getAskingPrice());
+        payload.put("status", payment.getStatus());
+        return payload;
     }
 
     public Optional<BuyPayment> findById(Integer purchaseID) {
@@ -0,0 +1,47 @@
+package com.propertyhub.payment.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.service.OutboxEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends payment receipts for committed rent and buy payments.
+ */
+@Component
+public class PaymentOutboxHandler implements OutboxEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentOutboxHandler.class);
+
+    public static final String RENT_PAYMENT_CREATED = "RENT_PAYMENT_CREATED";
+    public static final String BUY_PAYMENT_CREATED = "BUY_PAYMENT_CREATED";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String getAggregateType() {
+        return OutboxEvent.AGGREGATE_PAYMENT;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(OutboxEvent event) throws Exception {
+        JsonNode payment = objectMapper.readTree(event.getPayload());
+        // In a real system, hand the receipt to the email service provider.
+        log.atInfo().setMessage("payment receipt sent")
+                .addKeyValue("event", event.getEventType())
+                .addKeyValue("paymentID", event.getAggregateId())
+                .addKeyValue("userID", payment.path("userID").asText())
+                .addKeyValue("apartmentID", payment.path("apartmentID").asText())
+                .addKeyValue("amount", payment.path("amount").asText())
+                .addKeyValue("status", payment.path("status").asText())
+                .log();
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -1,21 +1,46 @@
 package com.propertyhub.payment.service;
 
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.service.OutboxService;
 import com.propertyhub.payment.entity.RentPayment;
 import com.propertyhub.payment.repository.RentPaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class RentPaymentService {
 
     @Autowired
     private RentPaymentRepository rentPaymentRepository;
 
+    @Autowired
+    private OutboxService outboxService;
+
+    @Transactional
     public RentPayment addPayment(RentPayment payment) {
-        return rentPaymentRepository.save(payment);
+        RentPayment saved = rentPaymentRepository.save(payment);
+        outboxService.record(OutboxEvent.AGGREGATE_PAYMENT, saved.getPaymentID(),
+                PaymentOutboxHandler.RENT_PAYMENT_CREATED, eventPayload(saved));
+        return saved;
+    }
+
+    // Card details stay out of the outbox
+    private static Map<String, Object> eventPayload(RentPayment payment) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("paymentID", payment.getPaymentID());
+        payload.put("userID", payment.getUserID());
+        payload.put("apartmentID", payment.getApartmentID());
+        payload.put("months", payment.getMonths());
+        payload.put("amount", payment.getTotalAmount());
+        payload.put("status", payment.getStatus());
+        return payload;
     }
 
     public Optional<RentPayment> findById(Integer paymentID) {
@@ -1,7 +1,7 @@
 package com.propertyhub.payment.strategy;
 
 import com.propertyhub.payment.entity.BuyPayment;
-import com.propertyhub.payment.repository.BuyPaymentRepository;
+import com.propertyhub.payment.service.BuyPaymentService;
 import org.springframework.stereotype.Component;
 
 /**
@@ -10,10 +10,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class BuyPaymentStrategy implements PaymentStrategy {
 
-    private final BuyPaymentRepository buyPaymentRepository;
+    private final BuyPaymentService buyPaymentService;
 
-    public BuyPaymentStrategy(BuyPaymentRepository buyPaymentRepository) {
-        this.buyPaymentRepository = buyPaymentRepository;
+    public BuyPaymentStrategy(BuyPaymentService buyPaymentService) {
+        this.buyPaymentService = buyPaymentService;
     }
 
     @Override
@@ -24,6 +24,7 @@ public class BuyPaymentStrategy implements PaymentStrategy {
     @Override
     public BuyPayment process(BuyPayment payment) {
         if (payment == null) return null;
-        return buyPaymentRepository.save(payment);
+        // Through the service so the payment event is recorded with it
+        return buyPaymentService.addPayment(payment);
     }
 }
@@ -1,7 +1,7 @@
 package com.propertyhub.payment.strategy;
 
 import com.propertyhub.payment.entity.RentPayment;
-import com.propertyhub.payment.repository.RentPaymentRepository;
+import com.propertyhub.payment.service.RentPaymentService;
 import org.springframework.stereotype.Component;
 
 /**
@@ -10,10 +10,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class    RentPaymentStrategy implements PaymentStrategy {
 
-    private final RentPaymentRepository rentPaymentRepository;
+    private final RentPaymentService rentPaymentService;
 
-    public RentPaymentStrategy(RentPaymentRepository rentPaymentRepository) {
-        this.rentPaymentRepository = rentPaymentRepository;
+    public RentPaymentStrategy(RentPaymentService rentPaymentService) {
+        this.rentPaymentService = rentPaymentService;
     }
 
     @Override
@@ -24,6 +24,7 @@ public class    RentPaymentStrategy implements PaymentStrategy {
     @Override
     public RentPayment process(RentPayment payment) {
         if (payment == null) return null;
-        return rentPaymentRepository.save(payment);
+        // Through the service so the payment event is recorded with it
+        return rentPaymentService.addPayment(payment);
     }
 }
@@ -2,13 +2,19 @@
 package com.propertyhub.review.controller;
 
 
+import com.propertyhub.review.dto.ReviewFeedItem;
 import com.propertyhub.review.dto.ReviewRequest;
+import com.propertyhub.review.dto.ReviewSearchHit;
+import com.propertyhub.review.dto.ReviewStats;
 import com.propertyhub.review.entity.Review;
 import com.propertyhub.review.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +24,9 @@ import java.util.Map;
 @CrossOrigin(origins = "http://localhost:3000")
 public class ReviewController {
 
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final int MAX_MODERATION_PAGE_SIZE = 500;
+
     @Autowired
     private ReviewService reviewService;
 
@@ -68,12 +77,127 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    @GetMapping("/approved/feed")
+    public ResponseEntity<?> getApprovedFeed(
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "beforeCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeCreatedAt,
+            @RequestParam(value = "beforeId", required = false) Long beforeId) {
+        try {
+            int pageSize = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+            List<ReviewFeedItem> items = reviewService.getApprovedFeed(beforeCreatedAt, beforeId, pageSize);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("items", items);
+            response.put("hasMore", items.size() == pageSize);
+            if (!items.isEmpty()) {
+                ReviewFeedItem last = items.get(items.size() - 1);
+                Map<String, Object> next = new HashMap<>();
+                next.put("beforeCreatedAt", last.getCreatedAt());
+                next.put("beforeId", last.getReviewID());
+                response.put("next", next);
+            }
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchReviews(@RequestParam("q") String query,
+                                           @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        try {
+            if (query == null || query.trim().isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Query is required"));
+            }
+            int pageSize = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+            List<ReviewSearchHit> hits = reviewService.searchReviews(query, pageSize);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("query", query);
+            response.put("items", hits);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
     @GetMapping("/pending")
     public ResponseEntity<List<Review>> getPendingReviews() {
         List<Review> reviews = reviewService.getPendingReviews();
         return ResponseEntity.ok(reviews);
     }
 
+    @GetMapping("/moderation/queue")
+    public ResponseEntity<?> getModerationQueue(@RequestParam(value = "page", defaultValue = "0") int page,
+                                                @RequestParam(value = "size", defaultValue = "50") int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_MODERATION_PAGE_SIZE));
+            Page<ReviewFeedItem> queue = reviewService.getModerationQueue(Math.max(0, page), pageSize);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("items", queue.getContent());
+            response.put("page", queue.getNumber());
+            response.put("size", queue.getSize());
+            response.put("totalPending", queue.getTotalElements());
+            response.put("totalPages", queue.getTotalPages());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
+    @PostMapping("/moderation/approve")
+    public ResponseEntity<?> bulkApprove(@RequestBody Map<String, List<Long>> request) {
+        try {
+            List<Long> ids = request.get("reviewIds");
+            if (ids == null || ids.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "reviewIds is required"));
+            }
+            int approved = reviewService.bulkApprove(ids);
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "requested", ids.size(),
+                    "approved", approved
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
+    @PostMapping("/moderation/reject")
+    public ResponseEntity<?> bulkReject(@RequestBody Map<String, List<Long>> request) {
+        try {
+            List<Long> ids = request.get("reviewIds");
+            if (ids == null || ids.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "reviewIds is required"));
+            }
+            int rejected = reviewService.bulkReject(ids);
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "requested", ids.size(),
+                    "rejected", rejected
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
     @PutMapping("/{reviewId}")
     public ResponseEntity<?> updateReview(@PathVariable Long reviewId,
                                           @RequestBody ReviewRequest reviewRequest,
@@ -102,6 +226,19 @@ public class ReviewController {
         }
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<?> getReviewStats() {
+        try {
+            ReviewStats stats = reviewService.getReviewStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
     @GetMapping("/stats/average")
     public ResponseEntity<?> getAverageRating() {
         try {
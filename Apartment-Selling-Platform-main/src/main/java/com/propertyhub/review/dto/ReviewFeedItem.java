@@ -0,0 +1,54 @@
+package com.propertyhub.review.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an approved review for the public feed.
+ * The author name is selected in the same query, so the LAZY Review.user is never touched.
+ */
+public class ReviewFeedItem {
+    private Long reviewID;
+    private Long userID;
+    private String userName;
+    private Integer rating;
+    private String title;
+    private String comment;
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public ReviewFeedItem() {}
+
+    // Used by the JPQL constructor expression in ReviewRepository
+    public ReviewFeedItem(Long reviewID, Long userID, String userName, Integer rating,
+                          String title, String comment, LocalDateTime createdAt) {
+        this.reviewID = reviewID;
+        this.userID = userID;
+        this.userName = userName;
+        this.rating = rating;
+        this.title = title;
+        this.comment = comment;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getReviewID() { return reviewID; }
+    public void setReviewID(Long reviewID) { this.reviewID = reviewID; }
+
+    public Long getUserID() { return userID; }
+    public void setUserID(Long userID) { this.userID = userID; }
+
+    public String getUserName() { return userName; }
+    public void setUserName(String userName) { this.userName = userName; }
+
+    public Integer getRating() { return rating; }
+    public void setRating(Integer rating) { this.rating = rating; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getComment() { return comment; }
+    public void setComment(String comment) { this.comment = comment; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
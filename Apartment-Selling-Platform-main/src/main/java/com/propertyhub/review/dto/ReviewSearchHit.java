@@ -0,0 +1,21 @@
+package com.propertyhub.review.dto;
+
+public class ReviewSearchHit {
+    private ReviewFeedItem review;
+    private double score;
+
+    // Default constructor
+    public ReviewSearchHit() {}
+
+    public ReviewSearchHit(ReviewFeedItem review, double score) {
+        this.review = review;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public ReviewFeedItem getReview() { return review; }
+    public void setReview(ReviewFeedItem review) { this.review = review; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
@@ -0,0 +1,29 @@
+package com.propertyhub.review.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ReviewStats {
+    private double averageRating;
+    private long totalReviews;
+    private Map<Integer, Long> ratingCounts = new LinkedHashMap<>();
+
+    // Default constructor
+    public ReviewStats() {}
+
+    public ReviewStats(double averageRating, long totalReviews, Map<Integer, Long> ratingCounts) {
+        this.averageRating = averageRating;
+        this.totalReviews = totalReviews;
+        this.ratingCounts = ratingCounts;
+    }
+
+    // Getters and Setters
+    public double getAverageRating() { return averageRating; }
+    public void setAverageRating(double averageRating) { this.averageRating = averageRating; }
+
+    public long getTotalReviews() { return totalReviews; }
+    public void setTotalReviews(long totalReviews) { this.totalReviews = totalReviews; }
+
+    public Map<Integer, Long> getRatingCounts() { return ratingCounts; }
+    public void setRatingCounts(Map<Integer, Long> ratingCounts) { this.ratingCounts = ratingCounts; }
+}
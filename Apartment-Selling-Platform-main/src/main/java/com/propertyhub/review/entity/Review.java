@@ -4,13 +4,20 @@ package com.propertyhub.review.entity;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.propertyhub.auth.entity.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Reviews")
+@Table(name = "Reviews", indexes = {
+        @Index(name = "IX_Reviews_Approved_CreatedAt", columnList = "is_approved, created_at DESC, reviewID DESC")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "review")
 public class Review {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+    @SequenceGenerator(name = "review_seq", sequenceName = "ReviewSeq", allocationSize = 50)
     @Column(name = "reviewID")
     private Long reviewID;
 
@@ -3,13 +3,23 @@ package com.propertyhub.review.repository;
 
 
 import com.propertyhub.auth.entity.User;
+import com.propertyhub.review.dto.ReviewFeedItem;
 import com.propertyhub.review.entity.Review;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -17,13 +27,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // Find all reviews by a specific user
     List<Review> findByUserOrderByCreatedAtDesc(User user);
 
-    // Find all approved reviews
+    // Single review with its author, for responses that serialise the entity after the transaction has ended
+    @EntityGraph(attributePaths = "user")
+    Optional<Review> findWithUserByReviewID(Long reviewID);
+
+    // Find all approved reviews; the id list is kept in the query cache until the Reviews table next changes
+    @EntityGraph(attributePaths = "user")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "approved-reviews")
+    })
     List<Review> findByIsApprovedTrueOrderByCreatedAtDesc();
 
     // Find pending reviews (for admin)
+    @EntityGraph(attributePaths = "user")
     List<Review> findByIsApprovedFalseOrderByCreatedAtDesc();
 
     // Find reviews by rating
+    @EntityGraph(attributePaths = "user")
     List<Review> findByRatingAndIsApprovedTrueOrderByCreatedAtDesc(Integer rating);
 
     // Calculate average rating
@@ -33,4 +54,60 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // Count reviews by rating
     @Query("SELECT COUNT(r) FROM Review r WHERE r.rating = :rating AND r.isApproved = true")
     Long countByRating(@Param("rating") Integer rating);
+
+    // Full rating histogram of approved reviews in one round-trip: [rating, count]
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.isApproved = true GROUP BY r.rating")
+    List<Object[]> countApprovedGroupByRating();
+
+    // Approved feed, newest first, keyset-paginated on (createdAt, reviewID); author name comes from the join
+    @Query("SELECT new com.propertyhub.review.dto.ReviewFeedItem(r.reviewID, u.userID, u.name, r.rating, r.title, r.comment, r.createdAt) " +
+            "FROM Review r JOIN r.user u WHERE r.isApproved = true " +
+            "ORDER BY r.createdAt DESC, r.reviewID DESC")
+    List<ReviewFeedItem> findApprovedFeed(Pageable pageable);
+
+    @Query("SELECT new com.propertyhub.review.dto.ReviewFeedItem(r.reviewID, u.userID, u.name, r.rating, r.title, r.comment, r.createdAt) " +
+            "FROM Review r JOIN r.user u WHERE r.isApproved = true " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewID < :reviewID)) " +
+            "ORDER BY r.createdAt DESC, r.reviewID DESC")
+    List<ReviewFeedItem> findApprovedFeedBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("reviewID") Long reviewID,
+                                                Pageable pageable);
+
+    // Projections for a known set of approved reviews, e.g. search hits
+    @Query("SELECT new com.propertyhub.review.dto.ReviewFeedItem(r.reviewID, u.userID, u.name, r.rating, r.title, r.comment, r.createdAt) " +
+            "FROM Review r JOIN r.user u WHERE r.isApproved = true AND r.reviewID IN :ids")
+    List<ReviewFeedItem> findApprovedFeedItemsByIds(@Param("ids") List<Long> ids);
+
+    // Text of approved reviews in reviewID order, for (re)building the search index page by page: [reviewID, title, comment]
+    @Query("SELECT r.reviewID, r.title, r.comment FROM Review r WHERE r.isApproved = true AND r.reviewID > :afterId ORDER BY r.reviewID")
+    List<Object[]> findApprovedTextAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT r.reviewID, r.title, r.comment FROM Review r WHERE r.isApproved = true AND r.reviewID IN :ids")
+    List<Object[]> findApprovedTextByIds(@Param("ids") List<Long> ids);
+
+    // Moderation queue, oldest first so the backlog is worked in submission order
+    @Query(value = "SELECT new com.propertyhub.review.dto.ReviewFeedItem(r.reviewID, u.userID, u.name, r.rating, r.title, r.comment, r.createdAt) " +
+            "FROM Review r JOIN r.user u WHERE r.isApproved = false " +
+            "ORDER BY r.createdAt ASC, r.reviewID ASC",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.isApproved = false")
+    Page<ReviewFeedItem> findPendingQueue(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.isApproved = true, r.updatedAt = :now WHERE r.reviewID IN :ids AND r.isApproved = false")
+    int approveAllByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // Rejection removes the submission; only pending reviews can be rejected this way
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.reviewID IN :ids AND r.isApproved = false")
+    int deletePendingByIds(@Param("ids") List<Long> ids);
+
+    // Approved reviews of a user, i.e. the ones the search index holds
+    @Query("SELECT r.reviewID FROM Review r WHERE r.user.userID = :userID AND r.isApproved = true")
+    List<Long> findApprovedIdsOfUser(@Param("userID") Long userID);
+
+    // A deleted account's reviews. Going through Hibernate instead of the ON DELETE CASCADE clears them from the
+    // review region and marks the approved-reviews query results stale.
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.user.userID = :userID")
+    int deleteAllOfUser(@Param("userID") Long userID);
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.propertyhub.review.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Append-only inverted index with BM25 ranking.
+ *
+ * Every indexed review gets a dense, increasing document number, so posting lists stay sorted just by
+ * appending. Updates are a delete plus a fresh add; deleted documents are skipped at query time and
+ * dropped when the owning ReviewSearchIndex rebuilds. As in Lucene, document frequencies keep counting
+ * deleted documents until then, which only nudges idf slightly.
+ *
+ * Not thread-safe; ReviewSearchIndex guards it with a read/write lock.
+ */
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByReview = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] reviewIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private int liveDocs;
+    private long liveLength;
+
+    void add(long reviewId, String text) {
+        remove(reviewId);
+
+        List<String> terms = ReviewTextAnalyzer.analyze(text);
+        int doc = docCount++;
+        if (doc == reviewIds.length) {
+            reviewIds = Arrays.copyOf(reviewIds, doc * 2);
+            docLengths = Arrays.copyOf(docLengths, doc * 2);
+        }
+        reviewIds[doc] = reviewId;
+        docLengths[doc] = terms.size();
+        docByReview.put(reviewId, doc);
+        liveDocs++;
+        liveLength += terms.size();
+
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String term : terms) {
+            termFreqs.merge(term, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> e : termFreqs.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), k -> new PostingList()).add(doc, e.getValue());
+        }
+    }
+
+    void remove(long reviewId) {
+        Integer doc = docByReview.remove(reviewId);
+        if (doc == null) return;
+        deleted.set(doc);
+        liveDocs--;
+        liveLength -= docLengths[doc];
+    }
+
+    int size() {
+        return liveDocs;
+    }
+
+    /** Share of document slots occupied by deletions; used to decide when a rebuild pays off. */
+    double deletedRatio() {
+        return docCount == 0 ? 0.0 : (double) (docCount - liveDocs) / docCount;
+    }
+
+    /**
+     * Scores documents matching any query term (document-at-a-time over the sorted posting lists)
+     * and keeps the best {@code limit} in a bounded heap.
+     */
+    SearchResult search(List<String> queryTerms, int limit) {
+        List<PostingList> found = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            PostingList list = postings.get(term);
+            if (list != null && list.size > 0) found.add(list);
+        }
+        if (found.isEmpty() || liveDocs == 0) return new SearchResult(Collections.emptyList(), 0);
+
+        int n = found.size();
+        PostingList[] lists = found.toArray(new PostingList[0]);
+        float[] idfs = new float[n];
+        for (int i = 0; i < n; i++) {
+            idfs[i] = (float) Math.log(1 + (docCount - lists[i].size + 0.5) / (lists[i].size + 0.5));
+        }
+
+        float avgLength = Math.max(1f, (float) liveLength / liveDocs);
+        int[] cursors = new int[n];
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(a.score(), b.score()));
+        float threshold = Float.NEGATIVE_INFINITY;
+        int matched = 0;
+
+        while (true) {
+            int doc = Integer.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                if (cursors[i] < lists[i].size && lists[i].docs[cursors[i]] < doc) doc = lists[i].docs[cursors[i]];
+            }
+            if (doc == Integer.MAX_VALUE) break;
+
+            float score = 0f;
+            float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+            for (int i = 0; i < n; i++) {
+                PostingList list = lists[i];
+                if (cursors[i] < list.size && list.docs[cursors[i]] == doc) {
+                    int tf = list.freqs[cursors[i]++];
+                    score += idfs[i] * (tf * (K1 + 1)) / (tf + norm);
+                }
+            }
+            if (deleted.get(doc)) continue;
+
+            matched++;
+            if (score > threshold) {
+                top.add(new Hit(reviewIds[doc], score));
+                if (top.size() > limit) top.poll();
+                if (top.size() == limit) threshold = top.peek().score();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort((a, b) -> Float.compare(b.score(), a.score()));
+        return new SearchResult(hits, matched);
+    }
+
+    public record Hit(long reviewId, float score) {}
+
+    public record SearchResult(List<Hit> hits, int totalMatches) {}
+
+    private static final class PostingList {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+    }
+}
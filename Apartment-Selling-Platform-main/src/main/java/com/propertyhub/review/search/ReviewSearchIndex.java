@@ -0,0 +1,175 @@
+package com.propertyhub.review.search;
+
+import com.propertyhub.review.entity.Review;
+import com.propertyhub.review.repository.ReviewRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process full-text index over the title and comment of approved reviews.
+ *
+ * Built from the database once the application is ready and then kept current by ReviewService.
+ * Writes that arrive while a rebuild is running are replayed onto the new index before it is swapped in.
+ */
+@Component
+public class ReviewSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewSearchIndex.class);
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    private static final double REBUILD_DELETED_RATIO = 0.25;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+    // Non-null while a rebuild is in progress
+    private List<Consumer<InvertedIndex>> replayLog;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // At most one compaction is queued; removals that cross the threshold while it is pending add nothing
+    private final AtomicBoolean compactionPending = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "review-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            lock.writeLock().lock();
+            try {
+                replayLog = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long started = System.nanoTime();
+            InvertedIndex fresh = new InvertedIndex();
+            long afterId = 0L;
+            while (true) {
+                List<Object[]> rows = reviewRepository.findApprovedTextAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (Object[] row : rows) {
+                    long reviewId = ((Number) row[0]).longValue();
+                    fresh.add(reviewId, text((String) row[1], (String) row[2]));
+                    afterId = reviewId;
+                }
+                if (rows.size() < REBUILD_PAGE_SIZE) break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                replayLog.forEach(op -> op.accept(fresh));
+                replayLog = null;
+                index = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.atInfo().setMessage("review search index rebuilt")
+                    .addKeyValue("documents", fresh.size())
+                    .addKeyValue("tookMs", (System.nanoTime() - started) / 1_000_000)
+                    .log();
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                replayLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("review search index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /** Adds or replaces an approved review; unapproved reviews are removed instead. */
+    public void index(Review review) {
+        if (review == null || review.getReviewID() == null) return;
+        if (!Boolean.TRUE.equals(review.getIsApproved())) {
+            remove(review.getReviewID());
+            return;
+        }
+        long reviewId = review.getReviewID();
+        String text = text(review.getTitle(), review.getComment());
+        apply(idx -> idx.add(reviewId, text));
+    }
+
+    /** Indexes reviews approved in bulk, reading their text in pages. */
+    public void indexApproved(List<Long> reviewIds) {
+        for (int i = 0; i < reviewIds.size(); i += REBUILD_PAGE_SIZE) {
+            List<Long> chunk = reviewIds.subList(i, Math.min(i + REBUILD_PAGE_SIZE, reviewIds.size()));
+            for (Object[] row : reviewRepository.findApprovedTextByIds(chunk)) {
+                long reviewId = ((Number) row[0]).longValue();
+                String text = text((String) row[1], (String) row[2]);
+                apply(idx -> idx.add(reviewId, text));
+            }
+        }
+    }
+
+    public void remove(Long reviewId) {
+        if (reviewId == null) return;
+        apply(idx -> idx.remove(reviewId));
+    }
+
+    public InvertedIndex.SearchResult search(String query, int limit) {
+        List<String> terms = ReviewTextAnalyzer.analyze(query);
+        lock.readLock().lock();
+        try {
+            return index.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<InvertedIndex> op) {
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            op.accept(index);
+            if (replayLog != null) replayLog.add(op);
+            compact = index.deletedRatio() > REBUILD_DELETED_RATIO && index.size() > REBUILD_PAGE_SIZE;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact && !rebuilding.get() && compactionPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    compactionPending.set(false);
+                }
+            });
+        }
+    }
+
+    private static String text(String title, String comment) {
+        if (comment == null) return title;
+        return title == null ? comment : title + " " + comment;
+    }
+}
@@ -0,0 +1,68 @@
+package com.propertyhub.review.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns review text into index terms: lower-casing, splitting on anything that is not a letter or digit,
+ * dropping stop words and applying a light suffix stemmer so "apartments"/"apartment" and
+ * "helped"/"helping"/"helps" style variants meet in the same posting list. Derivational suffixes such as
+ * "-ful" are left alone, so "helpful" stays a term of its own.
+ */
+public final class ReviewTextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "had", "has", "have",
+            "i", "if", "in", "into", "is", "it", "its", "me", "my", "of", "on", "or", "our", "so", "that",
+            "the", "their", "them", "there", "these", "they", "this", "to", "was", "we", "were", "what",
+            "when", "which", "while", "who", "will", "with", "you", "your"
+    );
+
+    private ReviewTextAnalyzer() {}
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) return terms;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        if (token.length() < 2 || STOP_WORDS.contains(token)) return;
+        terms.add(stem(token));
+    }
+
+    // Conservative suffix stripping; only applied when a reasonable stem remains
+    static String stem(String word) {
+        int len = word.length();
+        if (len > 4 && word.endsWith("ies")) return word.substring(0, len - 3) + "y";
+        if (len > 5 && word.endsWith("ing")) return undouble(word.substring(0, len - 3));
+        if (len > 4 && word.endsWith("ed")) return undouble(word.substring(0, len - 2));
+        if (len > 4 && word.endsWith("ly")) return word.substring(0, len - 2);
+        if (len > 4 && (word.endsWith("sses") || word.endsWith("shes") || word.endsWith("ches"))) return word.substring(0, len - 2);
+        if (len > 3 && word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us")) return word.substring(0, len - 1);
+        return word;
+    }
+
+    // "shopping" -> "shopp" -> "shop"
+    private static String undouble(String stem) {
+        int len = stem.length();
+        if (len > 2 && stem.charAt(len - 1) == stem.charAt(len - 2) && "lsz".indexOf(stem.charAt(len - 1)) < 0) {
+            return stem.substring(0, len - 1);
+        }
+        return stem;
+    }
+}
@@ -3,24 +3,54 @@ package com.propertyhub.review.service;
 
 import com.propertyhub.auth.entity.User;
 import com.propertyhub.auth.repository.UserRepository;
+import com.propertyhub.cache.ContentVersions;
+import com.propertyhub.review.dto.ReviewFeedItem;
 import com.propertyhub.review.dto.ReviewRequest;
+import com.propertyhub.review.dto.ReviewSearchHit;
+import com.propertyhub.review.dto.ReviewStats;
 import com.propertyhub.review.entity.Review;
 import com.propertyhub.review.repository.ReviewRepository;
+import com.propertyhub.review.search.InvertedIndex;
+import com.propertyhub.review.search.ReviewSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     @Autowired
     private ReviewRepository reviewRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReviewStatsCache reviewStatsCache;
+
+    @Autowired
+    private ReviewSearchIndex reviewSearchIndex;
+
+    @Autowired
+    private ContentVersions contentVersions;
+
+    @Transactional
     public Review createReview(ReviewRequest reviewRequest, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -32,7 +62,15 @@ public class ReviewService {
         review.setComment(reviewRequest.getComment());
         review.setIsApproved(false); // Default to false for moderation
 
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        if (Boolean.TRUE.equals(saved.getIsApproved())) {
+            afterCommit(() -> {
+                reviewStatsCache.approvedAdded(saved.getRating());
+                reviewSearchIndex.index(saved);
+            });
+            contentVersions.changed(ContentVersions.REVIEWS);
+        }
+        return saved;
     }
 
     public List<Review> getUserReviews(Long userId) {
@@ -45,31 +83,111 @@ public class ReviewService {
         return reviewRepository.findByIsApprovedTrueOrderByCreatedAtDesc();
     }
 
+    public List<ReviewFeedItem> getApprovedFeed(LocalDateTime beforeCreatedAt, Long beforeReviewId, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        if (beforeCreatedAt == null || beforeReviewId == null) {
+            return reviewRepository.findApprovedFeed(page);
+        }
+        return reviewRepository.findApprovedFeedBefore(beforeCreatedAt, beforeReviewId, page);
+    }
+
+    public List<ReviewSearchHit> searchReviews(String query, int limit) {
+        InvertedIndex.SearchResult result = reviewSearchIndex.search(query, limit);
+        if (result.hits().isEmpty()) return new ArrayList<>();
+
+        List<Long> ids = result.hits().stream().map(InvertedIndex.Hit::reviewId).toList();
+        Map<Long, ReviewFeedItem> byId = new HashMap<>();
+        for (ReviewFeedItem item : reviewRepository.findApprovedFeedItemsByIds(ids)) {
+            byId.put(item.getReviewID(), item);
+        }
+
+        // Keep the index's ranking; skip anything deleted since it was indexed
+        List<ReviewSearchHit> hits = new ArrayList<>();
+        for (InvertedIndex.Hit hit : result.hits()) {
+            ReviewFeedItem item = byId.get(hit.reviewId());
+            if (item != null) hits.add(new ReviewSearchHit(item, hit.score()));
+        }
+        return hits;
+    }
+
     public List<Review> getPendingReviews() {
         return reviewRepository.findByIsApprovedFalseOrderByCreatedAtDesc();
     }
 
+    public Page<ReviewFeedItem> getModerationQueue(int page, int size) {
+        return reviewRepository.findPendingQueue(PageRequest.of(page, size));
+    }
+
+    @Transactional
+    public int bulkApprove(List<Long> reviewIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int approved = 0;
+        for (List<Long> chunk : chunk(reviewIds)) {
+            approved += reviewRepository.approveAllByIds(chunk, now);
+        }
+        if (approved > 0) {
+            List<Long> ids = reviewIds.stream().filter(Objects::nonNull).distinct().toList();
+            afterCommit(() -> {
+                reviewStatsCache.refresh();
+                reviewSearchIndex.indexApproved(ids);
+            });
+            contentVersions.changed(ContentVersions.REVIEWS);
+        }
+        return approved;
+    }
+
+    @Transactional
+    public int bulkReject(List<Long> reviewIds) {
+        int rejected = 0;
+        for (List<Long> chunk : chunk(reviewIds)) {
+            rejected += reviewRepository.deletePendingByIds(chunk);
+        }
+        return rejected;
+    }
+
+    @Transactional
     public Review updateReview(Long reviewId, ReviewRequest reviewRequest, Long requesterUserId) {
-        Review review = reviewRepository.findById(reviewId)
+        Review review = reviewRepository.findWithUserByReviewID(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
         if (requesterUserId == null || review.getUser() == null || !review.getUser().getUserID().equals(requesterUserId)) {
             throw new RuntimeException("You can only update your own reviews");
         }
+        Integer oldRating = review.getRating();
         review.setRating(reviewRequest.getRating());
         review.setTitle(reviewRequest.getTitle());
         review.setComment(reviewRequest.getComment());
 
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        if (Boolean.TRUE.equals(saved.getIsApproved())) {
+            Integer newRating = saved.getRating();
+            afterCommit(() -> {
+                reviewStatsCache.approvedRatingChanged(oldRating, newRating);
+                reviewSearchIndex.index(saved);
+            });
+            contentVersions.changed(ContentVersions.REVIEWS);
+        }
+        return saved;
     }
 
+    @Transactional
     public Review approveReview(Long reviewId) {
-        Review review = reviewRepository.findById(reviewId)
+        Review review = reviewRepository.findWithUserByReviewID(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
 
+        boolean wasApproved = Boolean.TRUE.equals(review.getIsApproved());
         review.setIsApproved(true);
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        afterCommit(() -> {
+            if (!wasApproved) {
+                reviewStatsCache.approvedAdded(saved.getRating());
+            }
+            reviewSearchIndex.index(saved);
+        });
+        contentVersions.changed(ContentVersions.REVIEWS);
+        return saved;
     }
 
+    @Transactional
     public void deleteReview(Long reviewId, Long requesterUserId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
@@ -77,17 +195,68 @@ public class ReviewService {
             throw new RuntimeException("You can only delete your own reviews");
         }
         reviewRepository.delete(review);
+        boolean wasApproved = Boolean.TRUE.equals(review.getIsApproved());
+        Integer rating = review.getRating();
+        afterCommit(() -> {
+            if (wasApproved) reviewStatsCache.approvedRemoved(rating);
+            reviewSearchIndex.remove(reviewId);
+        });
+        if (wasApproved) {
+            contentVersions.changed(ContentVersions.REVIEWS);
+        }
+    }
+
+    /** Removes a user's reviews; called in the same transaction that deletes the account. */
+    @Transactional
+    public void deleteUserReviews(Long userId) {
+        List<Long> approvedIds = reviewRepository.findApprovedIdsOfUser(userId);
+        if (reviewRepository.deleteAllOfUser(userId) == 0) return;
+        contentVersions.changed(ContentVersions.REVIEWS);
+        if (!approvedIds.isEmpty()) {
+            afterCommit(() -> {
+                reviewStatsCache.refresh();
+                approvedIds.forEach(reviewSearchIndex::remove);
+            });
+        }
     }
 
     public Double getAverageRating() {
-        return reviewRepository.findAverageRating();
+        return reviewStatsCache.getStats().getAverageRating();
     }
 
     public Long getReviewCountByRating(Integer rating) {
-        return reviewRepository.countByRating(rating);
+        return reviewStatsCache.getCount(rating);
+    }
+
+    public ReviewStats getReviewStats() {
+        return reviewStatsCache.getStats();
     }
 
     public Optional<Review> getReviewById(Long reviewId) {
-        return reviewRepository.findById(reviewId);
+        return reviewRepository.findWithUserByReviewID(reviewId);
+    }
+
+    // SQL Server caps a statement at 2100 parameters, so very large ID lists are split into several set-based updates
+    private static List<List<Long>> chunk(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += BULK_CHUNK_SIZE) {
+            chunks.add(distinct.subList(i, Math.min(i + BULK_CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+
+    // Caches follow the database only once the change has committed, so a rollback leaves them as they were
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.propertyhub.review.service;
+
+import com.propertyhub.review.dto.ReviewStats;
+import com.propertyhub.review.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory histogram of approved review ratings.
+ *
+ * The snapshot is loaded with a single GROUP BY query on first use and then kept current by
+ * ReviewService, which reports every change to an approved review. Readers never hit the database.
+ */
+@Component
+public class ReviewStatsCache {
+
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    // Index 0 is unused so a rating can be used directly as the index
+    private final AtomicReference<long[]> counts = new AtomicReference<>();
+
+    public ReviewStats getStats() {
+        long[] snapshot = current();
+        long total = 0;
+        long sum = 0;
+        Map<Integer, Long> ratingCounts = new LinkedHashMap<>();
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            ratingCounts.put(rating, snapshot[rating]);
+            total += snapshot[rating];
+            sum += snapshot[rating] * rating;
+        }
+        double average = total == 0 ? 0.0 : (double) sum / total;
+        return new ReviewStats(average, total, ratingCounts);
+    }
+
+    public long getCount(int rating) {
+        if (rating < MIN_RATING || rating > MAX_RATING) return 0;
+        return current()[rating];
+    }
+
+    /** A review became visible (approved) with the given rating. */
+    public void approvedAdded(Integer rating) {
+        adjust(rating, 1);
+    }
+
+    /** A visible review was deleted or unapproved. */
+    public void approvedRemoved(Integer rating) {
+        adjust(rating, -1);
+    }
+
+    /** A visible review changed its rating. */
+    public void approvedRatingChanged(Integer oldRating, Integer newRating) {
+        if (oldRating == null || oldRating.equals(newRating)) return;
+        adjust(oldRating, -1);
+        adjust(newRating, 1);
+    }
+
+    /** Re-reads the histogram from the database, e.g. after bulk updates that bypass the entity path. */
+    public void refresh() {
+        counts.set(load());
+    }
+
+    private long[] current() {
+        long[] snapshot = counts.get();
+        if (snapshot == null) {
+            counts.compareAndSet(null, load());
+            snapshot = counts.get();
+        }
+        return snapshot;
+    }
+
+    private void adjust(Integer rating, long delta) {
+        if (rating == null || rating < MIN_RATING || rating > MAX_RATING) return;
+        // Not loaded yet: the first read will pick the change up from the database
+        counts.updateAndGet(prev -> {
+            if (prev == null) return null;
+            long[] next = prev.clone();
+            next[rating] = Math.max(0, next[rating] + delta);
+            return next;
+        });
+    }
+
+    private long[] load() {
+        long[] loaded = new long[MAX_RATING + 1];
+        List<Object[]> rows = reviewRepository.countApprovedGroupByRating();
+        for (Object[] row : rows) {
+            int rating = ((Number) row[0]).intValue();
+            if (rating >= MIN_RATING && rating <= MAX_RATING) {
+                loaded[rating] = ((Number) row[1]).longValue();
+            }
+        }
+        return loaded;
+    }
+}
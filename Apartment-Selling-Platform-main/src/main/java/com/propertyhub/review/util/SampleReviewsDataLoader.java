@@ -9,6 +9,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -64,6 +65,7 @@ public class SampleReviewsDataLoader implements CommandLineRunner {
             {0, 4, "Smooth Rental Process", "Renting through PropertyHub was straightforward and hassle-free. The document signing process was particularly efficient.", true, 7}
         };
 
+        List<Review> reviews = new ArrayList<>();
         for (Object[] reviewData : reviewsData) {
             int userIndex = Math.min((int) reviewData[0], users.size() - 1);
             User user = users.get(userIndex);
@@ -85,8 +87,10 @@ public class SampleReviewsDataLoader implements CommandLineRunner {
             review.setCreatedAt(createdAt);
             review.setUpdatedAt(createdAt);
 
-            reviewRepository.save(review);
+            reviews.add(review);
         }
+        // One transaction, so the inserts go out as a JDBC batch
+        reviewRepository.saveAll(reviews);
 
         System.out.println("Sample reviews have been added to the database.");
     }
@@ -0,0 +1,39 @@
+package com.propertyhub.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs at startup whether requests run on virtual or platform threads. {@code spring.threads.virtual.enabled} only
+ * takes effect on Java 21 or later; on an older runtime it is ignored, which is worth a warning rather than a
+ * silent fallback.
+ */
+@Component
+public class ThreadingModeReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingModeReporter.class);
+
+    @Autowired
+    private Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean active = Threading.VIRTUAL.isActive(environment);
+        if (requested && !active) {
+            log.atWarn().setMessage("virtual threads need Java 21 or later; running on platform threads")
+                    .addKeyValue("javaVersion", Runtime.version().feature())
+                    .log();
+            return;
+        }
+        log.atInfo().setMessage("request threads")
+                .addKeyValue("mode", active ? "virtual" : "platform")
+                .log();
+    }
+}
@@ -0,0 +1,100 @@
+package com.propertyhub.threading;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Warns when a virtual thread blocks while pinned to its carrier thread, i.e. inside synchronized code or a native
+ * call (a JDBC driver or pool taking a monitor around network I/O is the usual case). A pinned thread keeps one of
+ * the few carrier threads for the whole wait, so enough of them stall every virtual thread in the application.
+ *
+ * Events come from JFR's {@code jdk.VirtualThreadPinned}; only waits longer than
+ * {@code threads.virtual.pinned-threshold-ms} are reported, at most once per call site per
+ * {@code threads.virtual.pinned-warn-interval-ms}, and all of them are counted in {@code jvm.threads.virtual.pinned}.
+ * Only active in virtual-thread mode.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Value("${threads.virtual.pinned-threshold-ms:20}")
+    private long thresholdMs;
+
+    @Value("${threads.virtual.pinned-warn-interval-ms:60000}")
+    private long warnIntervalMs;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Long> lastWarned = new ConcurrentHashMap<>();
+    private Counter pinned;
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        if (meterRegistry != null) {
+            pinned = Counter.builder("jvm.threads.virtual.pinned")
+                    .description("Virtual threads that blocked while pinned to their carrier")
+                    .register(meterRegistry);
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        if (pinned != null) pinned.increment();
+        String site = callSite(event);
+        long now = System.currentTimeMillis();
+        Long previous = lastWarned.get(site);
+        if (previous != null && now - previous < warnIntervalMs) return;
+        lastWarned.put(site, now);
+        log.atWarn().setMessage("virtual thread blocked while pinned to its carrier")
+                .addKeyValue("site", site)
+                .addKeyValue("durationMs", event.getDuration().toMillis())
+                .addKeyValue("thread", event.getThread() == null ? null : event.getThread().getJavaName())
+                .log();
+    }
+
+    // The innermost application frame says which of our calls to look at; otherwise the frame that blocked
+    private static String callSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "unknown";
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        if (frames.isEmpty()) return "unknown";
+        RecordedFrame site = frames.get(0);
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith("com.propertyhub.")) {
+                site = frame;
+                break;
+            }
+        }
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName() + ":" + site.getLineNumber();
+    }
+}
@@ -0,0 +1,87 @@
+-- Baseline: the schema as created by Apartment-Selling-Platform.sql before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and start from V2.
+
+CREATE TABLE Users (
+    userID INT IDENTITY(1,1) PRIMARY KEY,
+    name NVARCHAR(100) NOT NULL,
+    email NVARCHAR(100) UNIQUE NOT NULL,
+    phone NVARCHAR(20),
+    password NVARCHAR(255) NOT NULL,
+    created_at DATETIME2 DEFAULT GETDATE()
+);
+
+CREATE TABLE UserActivities (
+    activityID INT IDENTITY(1,1) PRIMARY KEY,
+    userID INT NOT NULL,
+    activityType NVARCHAR(50) NOT NULL,
+    description NVARCHAR(500) NOT NULL,
+    relatedData NVARCHAR(MAX) NULL,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    FOREIGN KEY (userID) REFERENCES Users(userID) ON DELETE CASCADE
+);
+
+CREATE TABLE SavedProperties (
+    savedPropertyID INT IDENTITY(1,1) PRIMARY KEY,
+    userID INT NOT NULL,
+    propertyPrice NVARCHAR(50) NOT NULL,
+    propertyAddress NVARCHAR(300) NOT NULL,
+    propertyFeatures NVARCHAR(500),
+    propertyData NVARCHAR(MAX),
+    saved_at DATETIME2 DEFAULT GETDATE(),
+    FOREIGN KEY (userID) REFERENCES Users(userID) ON DELETE CASCADE,
+    CONSTRAINT UC_UserProperty UNIQUE (userID, propertyAddress)
+);
+
+CREATE TABLE Apartments (
+    apartmentID INT IDENTITY(1,1) PRIMARY KEY,
+    type NVARCHAR(50) NOT NULL,
+    price DECIMAL(12,2) NOT NULL,
+    bedrooms INT NOT NULL,
+    location NVARCHAR(200) NOT NULL,
+    description NVARCHAR(MAX),
+    status NVARCHAR(20) DEFAULT 'AVAILABLE',
+    created_at DATETIME2 DEFAULT GETDATE()
+);
+
+CREATE TABLE RentPayments(
+    paymentID INT IDENTITY(1,1) PRIMARY KEY,
+    userID INT NOT NULL,
+    apartmentID INT NOT NULL,
+    paymentType NVARCHAR(50) NOT NULL,
+    cardNumber NVARCHAR(50) NOT NULL,
+    nameOnCard NVARCHAR(100) NOT NULL,
+    months INT NOT NULL,
+    monthlyRent DECIMAL(12,2) NOT NULL,
+    totalAmount DECIMAL(12,2) NOT NULL,
+    status NVARCHAR(20) DEFAULT 'PENDING',
+    created_at DATETIME2 DEFAULT GETDATE(),
+    FOREIGN KEY (userID) REFERENCES Users(userID),
+    FOREIGN KEY (apartmentID) REFERENCES Apartments(apartmentID)
+);
+
+CREATE TABLE BuyPayments (
+    purchaseID INT IDENTITY(1,1) PRIMARY KEY,
+    userID INT NOT NULL,
+    apartmentID INT NOT NULL,
+    paymentType NVARCHAR(50) NOT NULL,
+    cardNumber NVARCHAR(50) NOT NULL,
+    nameOnCard NVARCHAR(100) NOT NULL, 
+    offerAmount DECIMAL(12,2) NOT NULL,
+    askingPrice DECIMAL(12,2) NOT NULL,
+    status NVARCHAR(20) DEFAULT 'PENDING',
+    created_at DATETIME2 DEFAULT GETDATE(),
+    FOREIGN KEY (userID) REFERENCES Users(userID),
+    FOREIGN KEY (apartmentID) REFERENCES Apartments(apartmentID)
+);
+
+CREATE TABLE Reviews (
+    reviewID INT IDENTITY(1,1) PRIMARY KEY,
+    userID INT NOT NULL,
+    rating INT NOT NULL CHECK (rating >= 1 AND rating <= 5),
+    title NVARCHAR(200) NOT NULL,
+    comment NVARCHAR(MAX),
+    is_approved BIT DEFAULT 0,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    updated_at DATETIME2 DEFAULT GETDATE(),
+    FOREIGN KEY (userID) REFERENCES Users(userID) ON DELETE CASCADE
+);
@@ -0,0 +1,59 @@
+-- Objects added for geo search, the listing change feed, saved-search alerts and the transactional outbox.
+-- Columns added to existing tables are filled in a separate batch (GO), once they exist.
+
+ALTER TABLE Apartments ADD
+    latitude FLOAT NULL,
+    longitude FLOAT NULL,
+    updated_at DATETIME2 DEFAULT GETDATE(),
+    -- Bumped by SQL Server on every insert and update; orders the /api/apartments/changes feed
+    row_version ROWVERSION
+GO
+
+UPDATE Apartments SET updated_at = created_at
+GO
+
+CREATE INDEX IX_Apartments_RowVersion ON Apartments (row_version);
+
+-- One row per deleted listing, so delta sync clients learn about removals
+CREATE TABLE ApartmentTombstones (
+    apartmentID INT PRIMARY KEY,
+    deleted_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    row_version ROWVERSION
+);
+
+CREATE INDEX IX_ApartmentTombstones_RowVersion ON ApartmentTombstones (row_version);
+
+CREATE TABLE SavedSearches (
+    savedSearchID INT IDENTITY(1,1) PRIMARY KEY,
+    userID INT NOT NULL,
+    name NVARCHAR(100),
+    type NVARCHAR(50),
+    location NVARCHAR(200),
+    min_price FLOAT,
+    max_price FLOAT,
+    min_bedrooms INT,
+    max_bedrooms INT,
+    is_active BIT NOT NULL DEFAULT 1,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    FOREIGN KEY (userID) REFERENCES Users(userID) ON DELETE CASCADE
+);
+
+CREATE INDEX IX_SavedSearches_User ON SavedSearches (userID);
+
+CREATE TABLE OutboxEvents (
+    eventID BIGINT IDENTITY(1,1) PRIMARY KEY,
+    aggregate_type NVARCHAR(50) NOT NULL,
+    aggregate_id NVARCHAR(50) NOT NULL,
+    event_type NVARCHAR(50) NOT NULL,
+    payload NVARCHAR(MAX),
+    created_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    processed_at DATETIME2 NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error NVARCHAR(1000) NULL
+);
+
+-- Keeps the poller's claim query on the (small) set of unpublished rows
+CREATE INDEX IX_OutboxEvents_Pending ON OutboxEvents (eventID) INCLUDE (attempts) WHERE processed_at IS NULL;
+
+-- Public approved-review feed (keyset pagination on created_at, reviewID)
+CREATE INDEX IX_Reviews_Approved_CreatedAt ON Reviews (is_approved, created_at DESC, reviewID DESC);
@@ -0,0 +1,38 @@
+-- Secondary indexes matched to the repository queries. Each comment names the queries an index serves.
+
+-- UserActivityRepository.findByUserIDOrderByCreatedAtDesc; also the ON DELETE CASCADE from Users
+CREATE INDEX IX_UserActivities_User_CreatedAt ON UserActivities (userID, created_at DESC);
+
+-- UserActivityRepository.findByUserIDAndActivityType and its COUNT
+CREATE INDEX IX_UserActivities_User_Type_CreatedAt ON UserActivities (userID, activityType, created_at DESC);
+
+-- SavedPropertyRepository.findByUserIDOrderBySavedAtDesc (UC_UserProperty already serves the userID + address lookups)
+CREATE INDEX IX_SavedProperties_User_SavedAt ON SavedProperties (userID, saved_at DESC);
+
+-- SavedSearchRepository.findByUserIDOrderByCreatedAtDesc and countByUserIDAndActiveTrue, replacing the userID-only index
+DROP INDEX IX_SavedSearches_User ON SavedSearches;
+CREATE INDEX IX_SavedSearches_User_CreatedAt ON SavedSearches (userID, created_at DESC) INCLUDE (is_active);
+
+-- RentPaymentRepository.findByUserIDOrderByCreatedAtDesc
+CREATE INDEX IX_RentPayments_User_CreatedAt ON RentPayments (userID, created_at DESC);
+
+-- RentPaymentRepository.existsByApartmentID / deleteByApartmentID, and the foreign key check when a listing is deleted
+CREATE INDEX IX_RentPayments_Apartment ON RentPayments (apartmentID);
+
+-- AdminRentRepository.findByStatus
+CREATE INDEX IX_RentPayments_Status ON RentPayments (status);
+
+-- BuyPaymentRepository.findByUserIDOrderByCreatedAtDesc
+CREATE INDEX IX_BuyPayments_User_CreatedAt ON BuyPayments (userID, created_at DESC);
+
+-- Foreign key check when a listing is deleted
+CREATE INDEX IX_BuyPayments_Apartment ON BuyPayments (apartmentID);
+
+-- ReviewRepository.findByUserOrderByCreatedAtDesc; also the ON DELETE CASCADE from Users
+CREATE INDEX IX_Reviews_User_CreatedAt ON Reviews (userID, created_at DESC);
+
+-- ReviewRepository.countApprovedGroupByRating, countByRating, findAverageRating and findByRatingAndIsApprovedTrueOrderByCreatedAtDesc
+CREATE INDEX IX_Reviews_Approved_Rating ON Reviews (is_approved, rating, created_at DESC);
+
+-- OutboxRepository.deleteProcessedBefore; IX_OutboxEvents_Pending covers only unprocessed rows
+CREATE INDEX IX_OutboxEvents_Processed ON OutboxEvents (processed_at) WHERE processed_at IS NOT NULL;
@@ -0,0 +1,143 @@
+-- Moves the tables with bulk write paths from IDENTITY to sequence-backed keys, so Hibernate can assign ids
+-- itself (pooled-lo, 50 per sequence call) and batch the inserts; IDENTITY forces one round-trip per row.
+-- Each sequence starts past the current maximum id. SQL Server cannot drop IDENTITY from a column, so each
+-- table is rebuilt: create the new shape, copy the rows, swap the names, restore indexes and foreign keys.
+-- Plain inserts keep working through the NEXT VALUE FOR defaults. Apartments rows get new row_version values
+-- in the copy, so delta sync clients re-read the catalogue once.
+-- Batches are separated by GO so the variables of each dynamic statement stay in scope.
+
+DECLARE @sql NVARCHAR(400)
+SET @sql = N'CREATE SEQUENCE ApartmentSeq AS INT START WITH '
+    + CAST((SELECT ISNULL(MAX(apartmentID), 0) + 1 FROM Apartments) AS NVARCHAR(12)) + N' INCREMENT BY 50'
+EXEC sp_executesql @sql
+SET @sql = N'CREATE SEQUENCE ReviewSeq AS INT START WITH '
+    + CAST((SELECT ISNULL(MAX(reviewID), 0) + 1 FROM Reviews) AS NVARCHAR(12)) + N' INCREMENT BY 50'
+EXEC sp_executesql @sql
+SET @sql = N'CREATE SEQUENCE UserActivitySeq AS INT START WITH '
+    + CAST((SELECT ISNULL(MAX(activityID), 0) + 1 FROM UserActivities) AS NVARCHAR(12)) + N' INCREMENT BY 50'
+EXEC sp_executesql @sql
+SET @sql = N'CREATE SEQUENCE OutboxEventSeq AS BIGINT START WITH '
+    + CAST((SELECT ISNULL(MAX(eventID), 0) + 1 FROM OutboxEvents) AS NVARCHAR(20)) + N' INCREMENT BY 50'
+EXEC sp_executesql @sql
+GO
+
+-- Apartments: the payment tables reference it through system-named foreign keys, which are looked up and dropped
+DECLARE @sql NVARCHAR(MAX) = N''
+SELECT @sql = @sql + N'ALTER TABLE ' + QUOTENAME(OBJECT_NAME(parent_object_id)) + N' DROP CONSTRAINT ' + QUOTENAME(name) + N' '
+FROM sys.foreign_keys WHERE referenced_object_id = OBJECT_ID(N'Apartments')
+EXEC sp_executesql @sql
+GO
+
+CREATE TABLE Apartments_new (
+    apartmentID INT NOT NULL CONSTRAINT PK_Apartments PRIMARY KEY DEFAULT (NEXT VALUE FOR ApartmentSeq),
+    type NVARCHAR(50) NOT NULL,
+    price DECIMAL(12,2) NOT NULL,
+    bedrooms INT NOT NULL,
+    location NVARCHAR(200) NOT NULL,
+    description NVARCHAR(MAX),
+    status NVARCHAR(20) DEFAULT 'AVAILABLE',
+    created_at DATETIME2 DEFAULT GETDATE(),
+    latitude FLOAT NULL,
+    longitude FLOAT NULL,
+    updated_at DATETIME2 DEFAULT GETDATE(),
+    row_version ROWVERSION
+)
+GO
+
+INSERT INTO Apartments_new (apartmentID, type, price, bedrooms, location, description, status, created_at, latitude, longitude, updated_at)
+SELECT apartmentID, type, price, bedrooms, location, description, status, created_at, latitude, longitude, updated_at
+FROM Apartments
+GO
+
+DROP TABLE Apartments
+GO
+EXEC sp_rename N'Apartments_new', N'Apartments'
+GO
+
+CREATE INDEX IX_Apartments_RowVersion ON Apartments (row_version)
+ALTER TABLE RentPayments ADD CONSTRAINT FK_RentPayments_Apartments FOREIGN KEY (apartmentID) REFERENCES Apartments (apartmentID)
+ALTER TABLE BuyPayments ADD CONSTRAINT FK_BuyPayments_Apartments FOREIGN KEY (apartmentID) REFERENCES Apartments (apartmentID)
+GO
+
+-- Reviews
+CREATE TABLE Reviews_new (
+    reviewID INT NOT NULL CONSTRAINT PK_Reviews PRIMARY KEY DEFAULT (NEXT VALUE FOR ReviewSeq),
+    userID INT NOT NULL,
+    rating INT NOT NULL CHECK (rating >= 1 AND rating <= 5),
+    title NVARCHAR(200) NOT NULL,
+    comment NVARCHAR(MAX),
+    is_approved BIT DEFAULT 0,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    updated_at DATETIME2 DEFAULT GETDATE(),
+    CONSTRAINT FK_Reviews_Users FOREIGN KEY (userID) REFERENCES Users (userID) ON DELETE CASCADE
+)
+GO
+
+INSERT INTO Reviews_new (reviewID, userID, rating, title, comment, is_approved, created_at, updated_at)
+SELECT reviewID, userID, rating, title, comment, is_approved, created_at, updated_at
+FROM Reviews
+GO
+
+DROP TABLE Reviews
+GO
+EXEC sp_rename N'Reviews_new', N'Reviews'
+GO
+
+CREATE INDEX IX_Reviews_Approved_CreatedAt ON Reviews (is_approved, created_at DESC, reviewID DESC)
+CREATE INDEX IX_Reviews_User_CreatedAt ON Reviews (userID, created_at DESC)
+CREATE INDEX IX_Reviews_Approved_Rating ON Reviews (is_approved, rating, created_at DESC)
+GO
+
+-- UserActivities
+CREATE TABLE UserActivities_new (
+    activityID INT NOT NULL CONSTRAINT PK_UserActivities PRIMARY KEY DEFAULT (NEXT VALUE FOR UserActivitySeq),
+    userID INT NOT NULL,
+    activityType NVARCHAR(50) NOT NULL,
+    description NVARCHAR(500) NOT NULL,
+    relatedData NVARCHAR(MAX) NULL,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    CONSTRAINT FK_UserActivities_Users FOREIGN KEY (userID) REFERENCES Users (userID) ON DELETE CASCADE
+)
+GO
+
+INSERT INTO UserActivities_new (activityID, userID, activityType, description, relatedData, created_at)
+SELECT activityID, userID, activityType, description, relatedData, created_at
+FROM UserActivities
+GO
+
+DROP TABLE UserActivities
+GO
+EXEC sp_rename N'UserActivities_new', N'UserActivities'
+GO
+
+CREATE INDEX IX_UserActivities_User_CreatedAt ON UserActivities (userID, created_at DESC)
+CREATE INDEX IX_UserActivities_User_Type_CreatedAt ON UserActivities (userID, activityType, created_at DESC)
+GO
+
+-- OutboxEvents
+CREATE TABLE OutboxEvents_new (
+    eventID BIGINT NOT NULL CONSTRAINT PK_OutboxEvents PRIMARY KEY DEFAULT (NEXT VALUE FOR OutboxEventSeq),
+    aggregate_type NVARCHAR(50) NOT NULL,
+    aggregate_id NVARCHAR(50) NOT NULL,
+    event_type NVARCHAR(50) NOT NULL,
+    payload NVARCHAR(MAX),
+    created_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    processed_at DATETIME2 NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error NVARCHAR(1000) NULL
+)
+GO
+
+INSERT INTO OutboxEvents_new (eventID, aggregate_type, aggregate_id, event_type, payload, created_at, processed_at, attempts, last_error)
+SELECT eventID, aggregate_type, aggregate_id, event_type, payload, created_at, processed_at, attempts, last_error
+FROM OutboxEvents
+GO
+
+DROP TABLE OutboxEvents
+GO
+EXEC sp_rename N'OutboxEvents_new', N'OutboxEvents'
+GO
+
+CREATE INDEX IX_OutboxEvents_Pending ON OutboxEvents (eventID) INCLUDE (attempts) WHERE processed_at IS NULL
+CREATE INDEX IX_OutboxEvents_Processed ON OutboxEvents (processed_at) WHERE processed_at IS NOT NULL
+GO
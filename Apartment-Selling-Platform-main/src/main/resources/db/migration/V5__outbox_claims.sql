@@ -0,0 +1,8 @@
+-- Lets the outbox poller claim a batch in a short transaction and wait for delivery outside it. A claimed event
+-- is skipped by later polls until claimed_until passes, so it is only picked up again if its claimant died or
+-- never finished with it.
+ALTER TABLE OutboxEvents ADD claimed_until DATETIME2 NULL;
+
+-- The claim query also filters on claimed_until
+DROP INDEX IX_OutboxEvents_Pending ON OutboxEvents;
+CREATE INDEX IX_OutboxEvents_Pending ON OutboxEvents (eventID) INCLUDE (attempts, claimed_until) WHERE processed_at IS NULL;
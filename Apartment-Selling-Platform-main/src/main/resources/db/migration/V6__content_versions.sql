@@ -0,0 +1,8 @@
+-- Version numbers behind the ETags of cacheable response families (ContentVersions). Bumped in the transaction
+-- that changes the data, so every instance hands out the same tag for the same content.
+CREATE TABLE ContentVersions (
+    family NVARCHAR(50) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO ContentVersions (family, version) VALUES ('reviews', 0);
@@ -0,0 +1,115 @@
+package com.propertyhub.apartment.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridTests {
+
+    private static final int POINTS = 3000;
+
+    private final GeoGrid grid = new GeoGrid(0.05);
+    private final double[] lats = new double[POINTS];
+    private final double[] lons = new double[POINTS];
+
+    // Mostly clustered around Colombo, with a scattering across the globe
+    @BeforeEach
+    void points() {
+        Random random = new Random(7);
+        for (int id = 0; id < POINTS; id++) {
+            if (id % 10 == 0) {
+                lats[id] = random.nextDouble() * 170 - 85;
+                lons[id] = random.nextDouble() * 360 - 180;
+            } else {
+                lats[id] = 6.8 + random.nextDouble() * 0.3;
+                lons[id] = 79.8 + random.nextDouble() * 0.3;
+            }
+            grid.put(id, lats[id], lons[id]);
+        }
+    }
+
+    private List<Integer> bruteForce(double lat, double lon, double radiusKm) {
+        return IntStream.range(0, POINTS)
+                .filter(id -> GeoPoint.distanceKm(lat, lon, lats[id], lons[id]) <= radiusKm)
+                .boxed()
+                .sorted(Comparator.comparingDouble(id -> GeoPoint.distanceKm(lat, lon, lats[id], lons[id])))
+                .toList();
+    }
+
+    private static List<Integer> ids(List<GeoGrid.Hit> hits) {
+        return hits.stream().map(GeoGrid.Hit::id).toList();
+    }
+
+    @Test
+    void withinFindsExactlyThePointsInsideTheRadiusNearestFirst() {
+        double[][] queries = {{6.93, 79.85, 2}, {6.95, 79.95, 10}, {7.0, 80.0, 50}, {51.5, -0.1, 800}};
+        for (double[] q : queries) {
+            List<Integer> expected = bruteForce(q[0], q[1], q[2]);
+
+            GeoGrid.RadiusResult result = grid.within(q[0], q[1], q[2], POINTS);
+
+            assertThat(ids(result.hits())).containsExactlyElementsOf(expected);
+            assertThat(result.totalMatches()).isEqualTo(expected.size());
+        }
+    }
+
+    @Test
+    void withinCapsHitsButCountsEveryMatch() {
+        List<Integer> expected = bruteForce(6.95, 79.95, 10);
+
+        GeoGrid.RadiusResult result = grid.within(6.95, 79.95, 10, 5);
+
+        assertThat(ids(result.hits())).containsExactlyElementsOf(expected.subList(0, 5));
+        assertThat(result.totalMatches()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        double[][] queries = {{6.93, 79.85}, {7.5, 81.0}, {-33.9, 18.4}, {0, 0}};
+        for (double[] q : queries) {
+            List<Integer> expected = bruteForce(q[0], q[1], Double.MAX_VALUE).subList(0, 8);
+
+            assertThat(ids(grid.nearest(q[0], q[1], 8))).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void radiusWrapsAroundTheAntimeridian() {
+        GeoGrid small = new GeoGrid(0.05);
+        small.put(1, 10.0, 179.99);
+        small.put(2, 10.0, -179.99);
+        small.put(3, 10.0, 179.0);
+
+        assertThat(ids(small.within(10.0, 179.999, 5, 10).hits())).containsExactlyInAnyOrder(1, 2);
+        assertThat(ids(small.nearest(10.0, -179.999, 2))).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void putMovesAndRemoveDropsPoints() {
+        GeoGrid small = new GeoGrid(0.05);
+        small.put(1, 6.93, 79.85);
+        small.put(2, 6.94, 79.86);
+        small.put(1, 7.29, 80.63);
+        small.remove(2);
+        small.remove(99);
+
+        assertThat(small.size()).isEqualTo(1);
+        assertThat(small.within(6.93, 79.85, 5, 10).totalMatches()).isZero();
+        assertThat(ids(small.within(7.29, 80.63, 1, 10).hits())).containsExactly(1);
+    }
+
+    @Test
+    void emptyGridAndNonPositiveLimitsReturnNothing() {
+        GeoGrid empty = new GeoGrid(0.05);
+
+        assertThat(empty.nearest(0, 0, 3)).isEmpty();
+        assertThat(empty.within(0, 0, 100, 10).hits()).isEmpty();
+        assertThat(grid.nearest(6.93, 79.85, 0)).isEmpty();
+    }
+}
@@ -0,0 +1,187 @@
+package com.propertyhub.apartment.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.apartment.dto.ApartmentImportResult;
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.outbox.service.OutboxService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs imports against a mocked persistence context that hands out ids and rejects any listing located in
+ * "Rejected", standing in for a row the database refuses.
+ */
+class ApartmentImportServiceTests {
+
+    private static final String HEADER = "type,price,bedrooms,location,description\n";
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final ApartmentImportService service = new ApartmentImportService();
+    // Locations of the listings that made it into a committed chunk
+    private final List<String> committed = new ArrayList<>();
+    private final List<String> inTransaction = new ArrayList<>();
+    private int nextId = 1;
+
+    @BeforeEach
+    void wire() {
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        ReflectionTestUtils.setField(service, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "outboxService", outboxService);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "chunkSize", 3);
+        ReflectionTestUtils.setField(service, "flushInterval", 2);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 100);
+        ReflectionTestUtils.setField(service, "maxRowChars", 200);
+        service.init();
+
+        doAnswer(invocation -> {
+            Apartment apartment = invocation.getArgument(0);
+            if ("Rejected".equals(apartment.getLocation())) {
+                inTransaction.clear();
+                throw new PersistenceException("constraint violated");
+            }
+            apartment.setApartmentID(nextId++);
+            inTransaction.add(apartment.getLocation());
+            return null;
+        }).when(entityManager).persist(any(Apartment.class));
+        // The last flush of a chunk stands in for its commit
+        doAnswer(invocation -> {
+            committed.addAll(inTransaction);
+            inTransaction.clear();
+            return null;
+        }).when(entityManager).clear();
+    }
+
+    @Test
+    void csvRowsThatFailValidationAreReportedWithTheirLineAndSkipped() {
+        ApartmentImportResult result = importCsv(HEADER
+                + "Flat,1000,2,Colombo,\n"
+                + "Flat,cheap,2,Kandy,\n"
+                + "Flat,1000,2\n"
+                + "House,2500,4,Galle,\"Garden,\nand a pool\"\n"
+                + ",900,1,Jaffna,\n"
+                + "Villa,5000,5,Negombo,\n");
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getRows()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(committed).containsExactly("Colombo", "Galle", "Negombo");
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(error -> error.get("line")).containsExactly(3L, 4L, 7L);
+        assertThat(result.getErrors()).extracting(error -> (String) error.get("message")).containsExactly(
+                "price is not a number", "Expected 5 columns but found 3", "Missing required field: type");
+    }
+
+    @Test
+    void chunkTheDatabaseRejectsIsRetriedRowByRow() {
+        ApartmentImportResult result = importCsv(HEADER
+                + "Flat,1000,2,Colombo,\n"
+                + "Flat,1000,2,Rejected,\n"
+                + "Flat,1000,2,Kandy,\n"
+                + "Flat,1000,2,Galle,\n");
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(committed).containsExactly("Colombo", "Kandy", "Galle");
+        assertThat(result.getErrors()).containsExactly(Map.of("line", 3L, "message", "constraint violated"));
+        // Ids handed out by the rolled-back chunk are not reused
+        assertThat(result.getFirstApartmentID()).isGreaterThan(1);
+    }
+
+    @Test
+    void chunkWhereEveryRowIsRejectedStopsTheImport() {
+        ApartmentImportResult result = importCsv(HEADER
+                + "Flat,1000,2,Rejected,\n"
+                + "Flat,1000,2,Rejected,\n"
+                + "Flat,1000,2,Rejected,\n"
+                + "Flat,1000,2,Colombo,\n");
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getImported()).isZero();
+        assertThat(committed).isEmpty();
+        assertThat(lastMessage(result)).contains("every row up to line 4 was rejected");
+        verify(outboxService, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    void headerWithoutARequiredColumnStopsBeforeAnyRow() {
+        ApartmentImportResult result = importCsv("type,bedrooms,location\nFlat,2,Colombo\n");
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getImported()).isZero();
+        assertThat(lastMessage(result)).contains("CSV header is missing column price");
+    }
+
+    @Test
+    void unterminatedQuoteStopsTheImportButKeepsCommittedChunks() {
+        ApartmentImportResult result = importCsv(HEADER
+                + "Flat,1000,2,Colombo,\n"
+                + "Flat,1000,2,Kandy,\n"
+                + "Flat,1000,2,Galle,\n"
+                + "Flat,1000,2,Jaffna,\"never closed\n");
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(committed).containsExactly("Colombo", "Kandy", "Galle");
+        assertThat(lastMessage(result)).contains("Unterminated quoted field starting on line 5");
+        verify(outboxService).record(eq("Apartment"), eq(result.getImportId()), eq("IMPORTED"), any());
+    }
+
+    @Test
+    void ndjsonRowsAreReportedWithTheirLineNumbers() {
+        ApartmentImportResult result = importNdjson("\uFEFF{\"type\":\"Flat\",\"price\":1000,\"bedrooms\":2,\"location\":\"Colombo\"}\r\n"
+                + "\n"
+                + "{not json}\n"
+                + "[1,2]\n"
+                + "{\"Type\":\"House\",\"PRICE\":\"2500\",\"bedrooms\":3,\"location\":\"Kandy\",\"extra\":true}\n");
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(committed).containsExactly("Colombo", "Kandy");
+        assertThat(result.getErrors()).extracting(error -> error.get("line")).containsExactly(3L, 4L);
+        assertThat(result.getErrors().get(1).get("message")).isEqualTo("Expected a JSON object");
+    }
+
+    @Test
+    void overLongNdjsonLineStopsTheImport() {
+        ApartmentImportResult result = importNdjson("{\"type\":\"Flat\",\"price\":1000,\"bedrooms\":2,\"location\":\"Colombo\"}\n"
+                + "{\"description\":\"" + "x".repeat(1000) + "\"}\n"
+                + "{\"type\":\"Flat\",\"price\":1000,\"bedrooms\":2,\"location\":\"Kandy\"}\n");
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(committed).containsExactly("Colombo");
+        assertThat(lastMessage(result)).contains("Line 2 is longer than 200 characters");
+    }
+
+    private ApartmentImportResult importCsv(String text) {
+        return service.importApartments(stream(text), ApartmentImportService.FORMAT_CSV);
+    }
+
+    private ApartmentImportResult importNdjson(String text) {
+        return service.importApartments(stream(text), ApartmentImportService.FORMAT_NDJSON);
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String lastMessage(ApartmentImportResult result) {
+        return (String) result.getErrors().get(result.getErrors().size() - 1).get("message");
+    }
+}
@@ -0,0 +1,103 @@
+package com.propertyhub.apartment.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTests {
+
+    @Test
+    void quotedFieldsKeepSeparatorsQuotesAndLineBreaks() throws IOException {
+        CsvRecordReader reader = reader("type,description,location\r\n"
+                + "Flat,\"Sea view, top floor\",Colombo\r\n"
+                + "House,\"The \"\"blue\"\" one\",Kandy\n"
+                + "Villa,\"Two lines\r\nof text\",Galle\n", 1000);
+
+        assertThat(reader.next()).containsExactly("type", "description", "location");
+        assertThat(reader.next()).containsExactly("Flat", "Sea view, top floor", "Colombo");
+        assertThat(reader.next()).containsExactly("House", "The \"blue\" one", "Kandy");
+        assertThat(reader.next()).containsExactly("Villa", "Two lines\r\nof text", "Galle");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void emptyFieldsAndMissingTrailingLineBreak() throws IOException {
+        CsvRecordReader reader = reader("a,,\"\"\n,b,", 1000);
+
+        assertThat(reader.next()).containsExactly("a", "", "");
+        assertThat(reader.next()).containsExactly("", "b", "");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void recordLineCountsBreaksInsideQuotesAndSkippedBlankLines() throws IOException {
+        CsvRecordReader reader = reader("h1,h2\n"
+                + "\"multi\nline\r\nvalue\",x\r\n"
+                + "\n"
+                + "\r\n"
+                + "after,blank\n", 1000);
+
+        reader.next();
+        assertThat(reader.recordLine()).isEqualTo(1);
+        reader.next();
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("after", "blank");
+        assertThat(reader.recordLine()).isEqualTo(7);
+    }
+
+    @Test
+    void leadingByteOrderMarkIsSkipped() throws IOException {
+        CsvRecordReader reader = reader("\uFEFFtype,price\nFlat,100\n", 1000);
+
+        assertThat(reader.next()).containsExactly("type", "price");
+        assertThat(reader.next()).containsExactly("Flat", "100");
+    }
+
+    @Test
+    void unterminatedQuoteNamesTheLineItStartedOn() throws IOException {
+        CsvRecordReader reader = reader("type,description\nFlat,ok\nHouse,\"never closed\nmore text\n", 1000);
+        reader.next();
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unterminated quoted field starting on line 3");
+    }
+
+    @Test
+    void overLongRecordIsRejectedInsteadOfRead() throws IOException {
+        CsvRecordReader reader = reader("short,row\n\"" + "x".repeat(500) + "\n", 100);
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("line 2")
+                .hasMessageContaining("longer than 100 characters");
+    }
+
+    @Test
+    void recordsSpanningTheReadBufferComeBackWhole() throws IOException {
+        String longField = "y".repeat(20_000);
+        List<List<String>> records = readAll(reader("a,\"" + longField + "\",c\nd,e,f\n", 50_000));
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).containsExactly("a", longField, "c");
+        assertThat(records.get(1)).containsExactly("d", "e", "f");
+    }
+
+    private static CsvRecordReader reader(String text, int maxRecordChars) {
+        return new CsvRecordReader(new StringReader(text), ',', maxRecordChars);
+    }
+
+    private static List<List<String>> readAll(CsvRecordReader reader) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        for (List<String> record = reader.next(); record != null; record = reader.next()) records.add(record);
+        return records;
+    }
+}
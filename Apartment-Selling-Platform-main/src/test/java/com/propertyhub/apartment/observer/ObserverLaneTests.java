@@ -0,0 +1,131 @@
+package com.propertyhub.apartment.observer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.propertyhub.apartment.entity.Apartment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObserverLaneTests {
+
+    private final ApartmentEventBus bus = new ApartmentEventBus();
+    private ObserverLane lane;
+
+    @TempDir
+    Path deadLetters;
+
+    @BeforeEach
+    void settings() {
+        bus.objectMapper = new ObjectMapper().findAndRegisterModules();
+        bus.deadLetterFile = deadLetters.resolve("dead-letter.ndjson").toString();
+        bus.queueCapacity = 1;
+        bus.batchSize = 10;
+        bus.timeoutMs = 50;
+        bus.maxAttempts = 3;
+        bus.backoffMs = 10;
+        bus.maxBackoffMs = 20;
+    }
+
+    @AfterEach
+    void stop() {
+        if (lane != null) lane.stop(1000);
+    }
+
+    @Test
+    void retryWaitsForTimedOutCallToReturn() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        lane = new ObserverLane(apartment -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                // The first call overruns the timeout and ignores the interrupt
+                if (calls.incrementAndGet() == 1) sleepUninterruptibly(300);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, bus, Thread::new);
+
+        lane.offer(ApartmentEvent.created(apartment(1))).get(5, TimeUnit.SECONDS);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(lane.delivered.get()).isEqualTo(1);
+        assertThat(lane.retried.get()).isEqualTo(1);
+    }
+
+    @Test
+    void observerThatKeepsFailingDeadLettersTheEventAndCompletesIt() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        lane = new ObserverLane(apartment -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("provider down");
+        }, bus, Thread::new);
+
+        lane.offer(ApartmentEvent.created(apartment(1))).get(5, TimeUnit.SECONDS);
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(lane.deadLettered.get()).isEqualTo(1);
+        assertThat(lane.delivered.get()).isZero();
+        assertThat(Files.readAllLines(Path.of(bus.deadLetterFile))).hasSize(1).first().asString()
+                .contains("provider down");
+    }
+
+    @Test
+    void fullLaneDeadLettersTheEventInsteadOfDroppingItSilently() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bus.timeoutMs = 5000;
+        lane = new ObserverLane(apartment -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, bus, Thread::new);
+
+        CompletableFuture<Void> first = lane.offer(ApartmentEvent.created(apartment(1)));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> queued = lane.offer(ApartmentEvent.created(apartment(2)));
+        CompletableFuture<Void> rejected = lane.offer(ApartmentEvent.created(apartment(3)));
+
+        // Done as far as the publisher is concerned, so it is not published again to the other observers
+        assertThat(rejected).isCompletedWithValue(null);
+        assertThat(lane.dropped.get()).isEqualTo(1);
+        assertThat(Files.readAllLines(Path.of(bus.deadLetterFile))).hasSize(1).first().asString()
+                .contains("queue full", "\"apartmentID\":3");
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    private static Apartment apartment(int id) {
+        Apartment apartment = new Apartment("Flat", 1000.0, 2, "Colombo", "test", "AVAILABLE");
+        apartment.setApartmentID(id);
+        return apartment;
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean interrupted = false;
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+}
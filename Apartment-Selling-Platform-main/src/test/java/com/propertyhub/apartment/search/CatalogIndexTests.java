@@ -0,0 +1,116 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.entity.Apartment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class CatalogIndexTests {
+
+    private final CatalogIndex index = new CatalogIndex(new double[] {100_000, 500_000});
+
+    private static Apartment apartment(int id, String type, double price, int bedrooms, String location, String status) {
+        Apartment apartment = new Apartment(type, price, bedrooms, location, "", status);
+        apartment.setApartmentID(id);
+        apartment.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(id));
+        return apartment;
+    }
+
+    private static ApartmentQuery query() {
+        ApartmentQuery query = new ApartmentQuery();
+        query.setPage(0);
+        query.setSize(20);
+        return query;
+    }
+
+    private static List<Integer> ids(ApartmentSearchResult result) {
+        return result.getItems().stream().map(Apartment::getApartmentID).toList();
+    }
+
+    @BeforeEach
+    void catalogue() {
+        index.upsert(apartment(1, "Apartment", 90_000, 1, "Colombo 03", "AVAILABLE"));
+        index.upsert(apartment(2, "House", 450_000, 3, "Kandy", "AVAILABLE"));
+        index.upsert(apartment(3, "Apartment", 250_000, 2, "Colombo 07", "SOLD"));
+        index.upsert(apartment(4, "apartment ", 600_000, 3, "Colombo 07", "AVAILABLE"));
+    }
+
+    @Test
+    void categoricalFiltersIntersect() {
+        ApartmentQuery query = query();
+        query.setType("APARTMENT");
+        query.setStatus("available");
+        query.setLocation("colombo");
+
+        assertThat(ids(index.search(query))).containsExactly(1, 4);
+    }
+
+    @Test
+    void everyLocationTokenMustMatch() {
+        ApartmentQuery query = query();
+        query.setLocation("Colombo 07");
+
+        assertThat(ids(index.search(query))).containsExactly(3, 4);
+    }
+
+    @Test
+    void rangeFiltersAndSortOrders() {
+        ApartmentQuery query = query();
+        query.setMinPrice(100_000.0);
+        query.setMinBedrooms(2);
+        query.setSortBy("price_desc");
+
+        assertThat(ids(index.search(query))).containsExactly(4, 2, 3);
+
+        query.setSortBy("newest");
+        assertThat(ids(index.search(query))).containsExactly(4, 3, 2);
+    }
+
+    @Test
+    void pagesThroughSortedResults() {
+        ApartmentQuery query = query();
+        query.setSortBy("price");
+        query.setSize(3);
+        query.setPage(1);
+
+        ApartmentSearchResult result = index.search(query);
+
+        assertThat(ids(result)).containsExactly(4);
+        assertThat(result.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    void facetsCountTheCurrentMatches() {
+        ApartmentQuery query = query();
+        query.setLocation("colombo");
+
+        ApartmentSearchResult result = index.search(query);
+
+        assertThat(result.getFacets().get("type")).containsExactly(entry("Apartment", 3));
+        assertThat(result.getFacets().get("status")).containsOnly(entry("AVAILABLE", 2), entry("SOLD", 1));
+        assertThat(result.getFacets().get("priceBand"))
+                .containsOnly(entry("0-100000", 1), entry("100000-500000", 1), entry("500000+", 1));
+    }
+
+    @Test
+    void upsertReplacesAndRemoveDropsListing() {
+        index.upsert(apartment(2, "House", 450_000, 3, "Galle", "AVAILABLE"));
+        index.remove(1);
+
+        ApartmentQuery kandy = query();
+        kandy.setLocation("kandy");
+        assertThat(index.search(kandy).getTotal()).isZero();
+
+        ApartmentQuery galle = query();
+        galle.setLocation("galle");
+        assertThat(ids(index.search(galle))).containsExactly(2);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search(query()).getFacets().get("bedrooms")).doesNotContainKey("1");
+    }
+}
@@ -0,0 +1,128 @@
+package com.propertyhub.apartment.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocBitmapTests {
+
+    private static List<Integer> values(DocBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    private static DocBitmap of(Iterable<Integer> values) {
+        DocBitmap bitmap = new DocBitmap();
+        values.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    // Sparse values across several chunks plus one chunk dense enough to switch to a bitmap container
+    private static TreeSet<Integer> sample(Random random) {
+        TreeSet<Integer> set = new TreeSet<>();
+        for (int i = 0; i < 300; i++) set.add(random.nextInt(1 << 20));
+        for (int i = 0; i < 6000; i++) set.add((1 << 16) + random.nextInt(1 << 16));
+        return set;
+    }
+
+    @Test
+    void addRemoveAndContainsAcrossChunks() {
+        DocBitmap bitmap = new DocBitmap();
+        bitmap.add(5);
+        bitmap.add(5);
+        bitmap.add(70_000);
+        bitmap.add(3);
+
+        assertThat(values(bitmap)).containsExactly(3, 5, 70_000);
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+        assertThat(bitmap.contains(70_000)).isTrue();
+        assertThat(bitmap.contains(4)).isFalse();
+
+        bitmap.remove(70_000);
+        bitmap.remove(3);
+        bitmap.remove(3);
+        bitmap.remove(5);
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.cardinality()).isZero();
+    }
+
+    @Test
+    void denseChunkKeepsValuesInOrderThroughRemovals() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        DocBitmap bitmap = new DocBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 3);
+            expected.add(i * 3);
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            bitmap.remove(i * 3);
+            expected.remove(i * 3);
+        }
+
+        assertThat(values(bitmap)).containsExactlyElementsOf(expected);
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void intersectionMatchesSetIntersection() {
+        Random random = new Random(42);
+        TreeSet<Integer> left = sample(random);
+        TreeSet<Integer> right = sample(random);
+        TreeSet<Integer> expected = new TreeSet<>(left);
+        expected.retainAll(right);
+
+        DocBitmap a = of(left);
+        DocBitmap b = of(right);
+
+        assertThat(values(a.and(b))).containsExactlyElementsOf(expected);
+        assertThat(a.andCardinality(b)).isEqualTo(expected.size());
+        assertThat(b.andCardinality(a)).isEqualTo(expected.size());
+        // Operands are left as they were
+        assertThat(values(a)).containsExactlyElementsOf(left);
+        assertThat(values(b)).containsExactlyElementsOf(right);
+    }
+
+    @Test
+    void intersectionWithDisjointOrEmptyBitmapIsEmpty() {
+        DocBitmap evens = new DocBitmap();
+        DocBitmap odds = new DocBitmap();
+        for (int i = 0; i < 5000; i++) {
+            evens.add(i * 2);
+            odds.add(i * 2 + 1);
+        }
+
+        assertThat(evens.and(odds).isEmpty()).isTrue();
+        assertThat(evens.andCardinality(odds)).isZero();
+        assertThat(evens.and(new DocBitmap()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void copyIsIndependent() {
+        DocBitmap original = of(List.of(1, 2, 3));
+        DocBitmap copy = original.copy();
+        copy.add(4);
+        copy.remove(1);
+
+        assertThat(values(original)).containsExactly(1, 2, 3);
+        assertThat(values(copy)).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void forEachWhileStopsWhenVisitorReturnsFalse() {
+        DocBitmap bitmap = of(List.of(10, 20, 70_000, 80_000));
+        List<Integer> seen = new ArrayList<>();
+
+        bitmap.forEachWhile(value -> {
+            seen.add(value);
+            return seen.size() < 3;
+        });
+
+        assertThat(seen).containsExactly(10, 20, 70_000);
+    }
+}
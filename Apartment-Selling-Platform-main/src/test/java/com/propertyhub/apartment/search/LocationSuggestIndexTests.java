@@ -0,0 +1,86 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reloads against a mocked repository whose page query lets other changes land while the reload is reading,
+ * the way observer events can arrive mid-reload.
+ */
+class LocationSuggestIndexTests {
+
+    private final ApartmentRepository apartmentRepository = mock(ApartmentRepository.class);
+    private final LocationSuggestIndex index = new LocationSuggestIndex();
+
+    @BeforeEach
+    void wire() {
+        ReflectionTestUtils.setField(index, "apartmentRepository", apartmentRepository);
+    }
+
+    @AfterEach
+    void stop() {
+        index.shutdown();
+    }
+
+    @Test
+    void reloadCountsEveryListingByLocation() {
+        when(apartmentRepository.findByApartmentIDGreaterThanOrderByApartmentIDAsc(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(apartment(1, "Berlin"), apartment(2, "berlin "), apartment(3, "Bern")));
+
+        index.reload();
+
+        assertThat(index.countWithPrefix("ber")).isEqualTo(3);
+        assertThat(index.countWithPrefix("berl")).isEqualTo(2);
+    }
+
+    @Test
+    void changesMadeDuringAReloadSurviveTheSwap() {
+        when(apartmentRepository.findByApartmentIDGreaterThanOrderByApartmentIDAsc(anyInt(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    // Listing 2 moves and listing 3 is added after the page below was read
+                    index.onApartmentUpdated(apartment(2, "Munich"));
+                    index.update(apartment(3, "Hamburg"));
+                    return List.of(apartment(1, "Berlin"), apartment(2, "Berlin"));
+                });
+
+        index.reload();
+
+        assertThat(index.countWithPrefix("berlin")).isEqualTo(1);
+        assertThat(index.countWithPrefix("munich")).isEqualTo(1);
+        assertThat(index.countWithPrefix("hamburg")).isEqualTo(1);
+    }
+
+    @Test
+    void removalDuringAReloadIsNotUndoneByTheReloadedRows() {
+        when(apartmentRepository.findByApartmentIDGreaterThanOrderByApartmentIDAsc(anyInt(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    index.onApartmentRemoved(1);
+                    return List.of(apartment(1, "Berlin"), apartment(2, "Bern"));
+                });
+
+        index.reload();
+
+        assertThat(index.countWithPrefix("berlin")).isZero();
+        assertThat(index.countWithPrefix("bern")).isEqualTo(1);
+    }
+
+    private static Apartment apartment(int id, String location) {
+        Apartment apartment = new Apartment();
+        apartment.setApartmentID(id);
+        apartment.setLocation(location);
+        return apartment;
+    }
+}
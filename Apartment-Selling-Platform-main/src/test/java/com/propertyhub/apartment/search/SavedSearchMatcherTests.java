@@ -0,0 +1,127 @@
+package com.propertyhub.apartment.search;
+
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.entity.SavedSearch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SavedSearchMatcherTests {
+
+    private static final String[] TYPES = {"Apartment", "House", "Villa", null};
+    private static final String[] LOCATIONS = {"Colombo 03", "Colombo 07", "Kandy", "Galle Fort", "Mount Lavinia", null};
+
+    private final SavedSearchMatcher matcher = new SavedSearchMatcher();
+
+    private static SavedSearch search(long id, String type, String location, Double minPrice, Double maxPrice,
+                                      Integer minBedrooms, Integer maxBedrooms) {
+        SavedSearch search = new SavedSearch();
+        search.setSavedSearchID(id);
+        search.setUserID(1000 + id);
+        search.setType(type);
+        search.setLocation(location);
+        search.setMinPrice(minPrice);
+        search.setMaxPrice(maxPrice);
+        search.setMinBedrooms(minBedrooms);
+        search.setMaxBedrooms(maxBedrooms);
+        return search;
+    }
+
+    private static Apartment listing(String type, double price, int bedrooms, String location) {
+        return new Apartment(type, price, bedrooms, location, "", "AVAILABLE");
+    }
+
+    private List<Long> matches(Apartment apartment) {
+        List<Long> ids = new ArrayList<>();
+        matcher.match(apartment, slot -> ids.add(matcher.searchId(slot)));
+        return ids;
+    }
+
+    // The definition the matcher has to agree with, checked one search at a time
+    private static boolean satisfies(SavedSearch search, Apartment apartment) {
+        if (search.getType() != null && !search.getType().isBlank()
+                && !CatalogIndex.typeKey(search.getType()).equals(CatalogIndex.typeKey(apartment.getType()))) {
+            return false;
+        }
+        if (!CatalogIndex.locationTokens(apartment.getLocation()).containsAll(CatalogIndex.locationTokens(search.getLocation()))) {
+            return false;
+        }
+        double price = apartment.getPrice();
+        if (search.getMinPrice() != null && price < search.getMinPrice()) return false;
+        if (search.getMaxPrice() != null && price > search.getMaxPrice()) return false;
+        if (search.getMinBedrooms() != null && apartment.getBedrooms() < search.getMinBedrooms()) return false;
+        return search.getMaxBedrooms() == null || apartment.getBedrooms() <= search.getMaxBedrooms();
+    }
+
+    @Test
+    void matchesExactlyTheSearchesAListingSatisfies() {
+        Random random = new Random(11);
+        List<SavedSearch> searches = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            Double min = random.nextInt(3) == 0 ? null : Math.pow(10, 4 + random.nextDouble() * 3);
+            Double max = random.nextInt(3) == 0 ? null : Math.pow(10, 4 + random.nextDouble() * 3);
+            Integer minBeds = random.nextInt(2) == 0 ? null : random.nextInt(4);
+            Integer maxBeds = random.nextInt(2) == 0 ? null : random.nextInt(6);
+            SavedSearch search = search(id, TYPES[random.nextInt(TYPES.length)],
+                    LOCATIONS[random.nextInt(LOCATIONS.length)], min, max, minBeds, maxBeds);
+            searches.add(search);
+            matcher.add(search);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            Apartment apartment = listing(TYPES[random.nextInt(TYPES.length)], Math.pow(10, 4 + random.nextDouble() * 3),
+                    random.nextInt(6), LOCATIONS[random.nextInt(LOCATIONS.length)]);
+            List<Long> expected = searches.stream().filter(s -> satisfies(s, apartment))
+                    .map(SavedSearch::getSavedSearchID).toList();
+
+            assertThat(matches(apartment)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void priceBoundsAreInclusive() {
+        matcher.add(search(1, null, null, 100_000.0, 200_000.0, null, null));
+
+        assertThat(matches(listing("House", 100_000, 2, "Kandy"))).containsExactly(1L);
+        assertThat(matches(listing("House", 200_000, 2, "Kandy"))).containsExactly(1L);
+        assertThat(matches(listing("House", 200_000.01, 2, "Kandy"))).isEmpty();
+        assertThat(matches(listing("House", 99_999.99, 2, "Kandy"))).isEmpty();
+    }
+
+    @Test
+    void everySearchLocationTokenMustAppearInTheListing() {
+        matcher.add(search(1, null, "Colombo 07", null, null, null, null));
+
+        assertThat(matches(listing("Flat", 50_000, 1, "Cinnamon Gardens, Colombo 07"))).containsExactly(1L);
+        assertThat(matches(listing("Flat", 50_000, 1, "Colombo 03"))).isEmpty();
+    }
+
+    @Test
+    void removedAndReplacedSearchesStopMatching() {
+        matcher.add(search(1, "House", "Kandy", null, 300_000.0, null, null));
+        matcher.add(search(2, "House", "Kandy", null, null, 2, null));
+        matcher.remove(2L);
+        matcher.add(search(1, "Villa", "Kandy", null, null, null, null));
+
+        assertThat(matches(listing("House", 250_000, 3, "Kandy"))).isEmpty();
+        assertThat(matches(listing("Villa", 900_000, 3, "Kandy"))).containsExactly(1L);
+        assertThat(matcher.size()).isEqualTo(1);
+        assertThat(matcher.deletedRatio()).isCloseTo(2.0 / 3, within(1e-9));
+    }
+
+    @Test
+    void invertedPriceRangeAndUnpricedListingsNeverMatch() {
+        matcher.add(search(1, null, null, 500_000.0, 100_000.0, null, null));
+        matcher.add(search(2, null, null, null, null, null, null));
+
+        assertThat(matches(listing("House", 300_000, 2, "Kandy"))).containsExactly(2L);
+        Apartment unpriced = listing("House", 0, 2, "Kandy");
+        unpriced.setPrice(null);
+        assertThat(matches(unpriced)).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.propertyhub.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentVersionsTests {
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transactions;
+    // Two application instances sharing one database
+    private ContentVersions instanceA;
+    private ContentVersions instanceB;
+
+    @BeforeEach
+    void database() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:content-versions-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE ContentVersions (family NVARCHAR(50) NOT NULL PRIMARY KEY, version BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO ContentVersions (family, version) VALUES ('reviews', 0)");
+        transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        instanceA = instance(jdbc);
+        instanceB = instance(jdbc);
+    }
+
+    @Test
+    void changeOnOneInstanceMovesTheVersionEverywhere() {
+        String before = instanceB.current(ContentVersions.REVIEWS);
+
+        transactions.executeWithoutResult(status -> instanceA.changed(ContentVersions.REVIEWS));
+
+        assertThat(instanceB.current(ContentVersions.REVIEWS)).isNotEqualTo(before)
+                .isEqualTo(instanceA.current(ContentVersions.REVIEWS));
+    }
+
+    @Test
+    void rolledBackChangeLeavesTheVersionAlone() {
+        String before = instanceA.current(ContentVersions.REVIEWS);
+
+        transactions.executeWithoutResult(status -> {
+            instanceA.changed(ContentVersions.REVIEWS);
+            status.setRollbackOnly();
+        });
+
+        assertThat(instanceA.current(ContentVersions.REVIEWS)).isEqualTo(before);
+    }
+
+    @Test
+    void noVersionWhileThisInstanceIsStillApplyingItsOwnCommit() {
+        AtomicReference<String> duringCacheUpdate = new AtomicReference<>("unset");
+
+        transactions.executeWithoutResult(status -> {
+            instanceA.changed(ContentVersions.REVIEWS);
+            // Stands in for a service refreshing its in-memory caches once the change has committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    duringCacheUpdate.set(instanceA.current(ContentVersions.REVIEWS));
+                }
+            });
+        });
+
+        assertThat(duringCacheUpdate.get()).isNull();
+        assertThat(instanceA.current(ContentVersions.REVIEWS)).isEqualTo("1");
+    }
+
+    private static ContentVersions instance(JdbcTemplate jdbc) {
+        ContentVersions versions = new ContentVersions();
+        ReflectionTestUtils.setField(versions, "jdbcTemplate", jdbc);
+        return versions;
+    }
+}
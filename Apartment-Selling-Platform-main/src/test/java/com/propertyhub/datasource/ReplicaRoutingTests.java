@@ -0,0 +1,177 @@
+package com.propertyhub.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the routing configuration against two in-memory databases, each holding one marker row naming it, so every
+ * read shows which database served it.
+ */
+class ReplicaRoutingTests {
+
+    // Nothing listens on port 1, so connecting fails straight away
+    private static final String UNREACHABLE_REPLICA = "jdbc:h2:tcp://127.0.0.1:1/mem:gone";
+
+    @BeforeAll
+    static void databases() throws SQLException {
+        createWithMarker("primary");
+        createWithMarker("replica");
+    }
+
+    @Test
+    void readOnlyServiceCallReadsFromTheReplica() {
+        runner(url("replica")).run(context -> {
+            MarkerService markers = context.getBean(MarkerService.class);
+
+            assertThat(markers.read()).isEqualTo("replica");
+            assertThat(markers.readInWriteTransaction()).isEqualTo("primary");
+            // A later read-only transaction is not stuck on the previous one's connection
+            assertThat(markers.read()).isEqualTo("replica");
+        });
+    }
+
+    @Test
+    void requestThatChangesDataReadsFromThePrimary() {
+        runner(url("replica")).run(context -> {
+            MarkerService markers = context.getBean(MarkerService.class);
+            ReadYourWritesFilter filter = context.getBean(ReadYourWritesFilter.class);
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertThat(readThrough(filter, new MockHttpServletRequest("POST", "/reviews"), response, markers))
+                    .isEqualTo("primary");
+            assertThat(response.getCookie(ReadYourWritesFilter.COOKIE)).isNotNull();
+            assertThat(ReadYourWrites.isPinned()).isFalse();
+        });
+    }
+
+    @Test
+    void clientWithUnexpiredCookieReadsFromThePrimary() {
+        runner(url("replica")).run(context -> {
+            MarkerService markers = context.getBean(MarkerService.class);
+            ReadYourWritesFilter filter = context.getBean(ReadYourWritesFilter.class);
+
+            MockHttpServletRequest pinned = new MockHttpServletRequest("GET", "/reviews");
+            pinned.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 2000)));
+            MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/reviews");
+            expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+
+            assertThat(readThrough(filter, pinned, new MockHttpServletResponse(), markers)).isEqualTo("primary");
+            assertThat(readThrough(filter, expired, new MockHttpServletResponse(), markers)).isEqualTo("replica");
+            assertThat(readThrough(filter, new MockHttpServletRequest("GET", "/reviews"), new MockHttpServletResponse(), markers))
+                    .isEqualTo("replica");
+        });
+    }
+
+    @Test
+    void unreachableReplicaIsTakenOutAndTheReadFallsBackToThePrimary() {
+        runner(UNREACHABLE_REPLICA).run(context -> {
+            MarkerService markers = context.getBean(MarkerService.class);
+            ReplicaDataSource replicas = context.getBean(ReplicaDataSource.class);
+
+            assertThat(markers.read()).isEqualTo("primary");
+            assertThat(replicas.isInRotation(replicas.getReplicaPools().get(0))).isFalse();
+            assertThat(markers.read()).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    void readsSkipAnUnreachableReplicaForAHealthyOne() {
+        runner(UNREACHABLE_REPLICA + "," + url("replica")).run(context -> {
+            MarkerService markers = context.getBean(MarkerService.class);
+            ReplicaDataSource replicas = context.getBean(ReplicaDataSource.class);
+
+            assertThat(markers.read()).isEqualTo("replica");
+            assertThat(markers.read()).isEqualTo("replica");
+            assertThat(replicas.isInRotation(replicas.getReplicaPools().get(0))).isFalse();
+            assertThat(replicas.isInRotation(replicas.getReplicaPools().get(1))).isTrue();
+        });
+    }
+
+    @Test
+    void openInViewIsSwitchedOffWhenReplicasAreConfigured() {
+        MockEnvironment withReplicas = new MockEnvironment()
+                .withProperty("db.replica.urls", url("replica"))
+                .withProperty(ReplicaOpenInViewPostProcessor.OPEN_IN_VIEW, "true");
+        MockEnvironment withoutReplicas = new MockEnvironment();
+
+        new ReplicaOpenInViewPostProcessor().postProcessEnvironment(withReplicas, new SpringApplication());
+        new ReplicaOpenInViewPostProcessor().postProcessEnvironment(withoutReplicas, new SpringApplication());
+
+        assertThat(withReplicas.getProperty(ReplicaOpenInViewPostProcessor.OPEN_IN_VIEW)).isEqualTo("false");
+        assertThat(withoutReplicas.getProperty(ReplicaOpenInViewPostProcessor.OPEN_IN_VIEW)).isNull();
+    }
+
+    private static ApplicationContextRunner runner(String replicaUrls) {
+        return new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class,
+                        HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class))
+                .withUserConfiguration(ReplicaRoutingConfig.class, MarkerService.class)
+                .withPropertyValues(
+                        "spring.datasource.url=" + url("primary"),
+                        "spring.datasource.username=sa",
+                        "db.replica.urls=" + replicaUrls,
+                        "spring.jpa.hibernate.ddl-auto=none");
+    }
+
+    private static String readThrough(ReadYourWritesFilter filter, MockHttpServletRequest request,
+                                      MockHttpServletResponse response, MarkerService markers) throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> seen.set(markers.read());
+        filter.doFilter(request, response, chain);
+        return seen.get();
+    }
+
+    private static String url(String database) {
+        return "jdbc:h2:mem:routing-" + database + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static void createWithMarker(String database) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url(database), "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE marker (name VARCHAR(20))");
+            statement.execute("INSERT INTO marker VALUES ('" + database + "')");
+        }
+    }
+
+    static class MarkerService {
+
+        @PersistenceContext
+        private EntityManager entityManager;
+
+        @Transactional(readOnly = true)
+        public String read() {
+            return marker();
+        }
+
+        @Transactional
+        public String readInWriteTransaction() {
+            return marker();
+        }
+
+        private String marker() {
+            return (String) entityManager.createNativeQuery("SELECT name FROM marker").getSingleResult();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.propertyhub.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MSSQLServerContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations against SQL Server, both on an empty database and on one created from the original
+ * script (V1) with data in it, which is baselined the way spring.flyway.baseline-on-migrate does in production.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTests {
+
+    @Container
+    static final MSSQLServerContainer<?> sqlServer =
+            new MSSQLServerContainer<>("mcr.microsoft.com/mssql/server:2022-latest").acceptLicense();
+
+    @Test
+    void migratesEmptyDatabase() {
+        DataSource dataSource = database("fresh");
+
+        MigrateResult result = flyway(dataSource).migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(result.targetSchemaVersion).isEqualTo("4");
+        assertMigratedSchema(new JdbcTemplate(dataSource));
+    }
+
+    @Test
+    void upgradesDatabaseCreatedFromOriginalScript() {
+        DataSource dataSource = database("legacy");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO Users (name, email, password) VALUES ('Owner', 'owner@example.com', 'secret')");
+        jdbc.update("INSERT INTO Apartments (type, price, bedrooms, location) VALUES ('Flat', 1200, 2, 'Colombo')");
+        jdbc.update("INSERT INTO Reviews (userID, rating, title, is_approved) VALUES (1, 5, 'Great', 1)");
+
+        MigrateResult result = flyway(dataSource).migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(result.migrations).extracting(migration -> migration.version)
+                .containsExactly("2", "3", "4", "5", "6");
+        assertMigratedSchema(jdbc);
+        // Existing rows survive the table rebuilds, and new keys come after them
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM Apartments WHERE updated_at IS NOT NULL", Integer.class))
+                .isEqualTo(1);
+        jdbc.update("INSERT INTO Apartments (type, price, bedrooms, location) VALUES ('House', 3000, 4, 'Kandy')");
+        assertThat(jdbc.queryForList("SELECT apartmentID FROM Apartments ORDER BY apartmentID", Integer.class))
+                .hasSize(2).first().isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM Reviews", Integer.class)).isEqualTo(1);
+    }
+
+    private static void assertMigratedSchema(JdbcTemplate jdbc) {
+        List<String> tables = jdbc.queryForList("SELECT name FROM sys.tables", String.class);
+        assertThat(tables).contains("Users", "Apartments", "Reviews", "RentPayments", "BuyPayments",
+                "SavedSearches", "OutboxEvents", "ApartmentTombstones", "ContentVersions");
+        List<String> apartmentColumns = jdbc.queryForList(
+                "SELECT name FROM sys.columns WHERE object_id = OBJECT_ID('Apartments')", String.class);
+        assertThat(apartmentColumns).contains("latitude", "longitude", "updated_at", "row_version");
+        List<String> sequences = jdbc.queryForList("SELECT name FROM sys.sequences", String.class);
+        assertThat(sequences).contains("ApartmentSeq", "ReviewSeq", "UserActivitySeq", "OutboxEventSeq");
+        List<String> indexes = jdbc.queryForList("SELECT name FROM sys.indexes WHERE name LIKE 'IX[_]%'", String.class);
+        assertThat(indexes).contains("IX_Apartments_RowVersion", "IX_Reviews_Approved_CreatedAt",
+                "IX_RentPayments_User_CreatedAt", "IX_SavedSearches_User_CreatedAt");
+    }
+
+    private static Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private static DataSource database(String name) {
+        new JdbcTemplate(dataSource(sqlServer.getJdbcUrl())).execute("CREATE DATABASE " + name);
+        return dataSource(sqlServer.getJdbcUrl() + ";databaseName=" + name);
+    }
+
+    private static DataSource dataSource(String url) {
+        return new DriverManagerDataSource(url, sqlServer.getUsername(), sqlServer.getPassword());
+    }
+}
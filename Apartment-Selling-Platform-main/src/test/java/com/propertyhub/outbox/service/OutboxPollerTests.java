@@ -0,0 +1,128 @@
+package com.propertyhub.outbox.service;
+
+import com.propertyhub.outbox.entity.OutboxEvent;
+import com.propertyhub.outbox.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxPollerTests {
+
+    private final OutboxRepository repository = mock(OutboxRepository.class);
+    private final OutboxEventHandler handler = mock(OutboxEventHandler.class);
+    private final OutboxPoller poller = new OutboxPoller();
+
+    @BeforeEach
+    void wire() {
+        when(handler.getAggregateType()).thenReturn(OutboxEvent.AGGREGATE_APARTMENT);
+        ReflectionTestUtils.setField(poller, "outboxRepository", repository);
+        ReflectionTestUtils.setField(poller, "handlers", List.of(handler));
+        ReflectionTestUtils.setField(poller, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(poller, "batchSize", 10);
+        ReflectionTestUtils.setField(poller, "maxAttempts", 10);
+        ReflectionTestUtils.setField(poller, "deliveryTimeoutMs", 100L);
+        ReflectionTestUtils.setField(poller, "claimTimeoutMs", 60_000L);
+        poller.init();
+    }
+
+    @Test
+    void claimsTheBatchAndMarksWhatWasDelivered() throws Exception {
+        pending(1, 2);
+        when(handler.handle(any())).thenReturn(CompletableFuture.completedFuture(null));
+        LocalDateTime before = LocalDateTime.now();
+
+        assertThat(poller.drainBatch()).isEqualTo(2);
+
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).claim(eq(List.of(1L, 2L)), until.capture());
+        assertThat(until.getValue()).isAfterOrEqualTo(before.plusSeconds(60));
+        verify(repository).markProcessed(eq(List.of(1L, 2L)), any());
+        verify(repository, never()).recordFailure(anyLong(), anyString());
+    }
+
+    @Test
+    void eventThatCannotBeHandedOverFailsAloneAndReleasesTheRest() throws Exception {
+        pending(1, 2, 3);
+        when(handler.handle(any())).thenAnswer(invocation -> {
+            OutboxEvent event = invocation.getArgument(0);
+            if (event.getEventID() == 2L) throw new IllegalArgumentException("bad payload");
+            return CompletableFuture.completedFuture(null);
+        });
+
+        poller.drainBatch();
+
+        verify(repository).recordFailure(eq(2L), anyString());
+        verify(repository).releaseClaims(List.of(3L));
+        verify(repository).markProcessed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    void unfinishedDeliveryKeepsItsClaimAndDoesNotHoldBackLaterEvents() throws Exception {
+        pending(1, 2, 3);
+        when(handler.handle(any())).thenAnswer(invocation -> {
+            OutboxEvent event = invocation.getArgument(0);
+            return event.getEventID() == 2L ? new CompletableFuture<Void>() : CompletableFuture.completedFuture(null);
+        });
+
+        poller.drainBatch();
+
+        verify(repository).markProcessed(eq(List.of(1L, 3L)), any());
+        verify(repository, never()).releaseClaims(anyList());
+        verify(repository, never()).recordFailure(anyLong(), anyString());
+    }
+
+    @Test
+    void eventAbandonedByAnObserverIsReleasedWithoutCountingAnAttempt() throws Exception {
+        pending(1, 2);
+        when(handler.handle(any())).thenAnswer(invocation -> {
+            OutboxEvent event = invocation.getArgument(0);
+            return event.getEventID() == 1L
+                    ? CompletableFuture.failedFuture(new IllegalStateException("shut down before delivery"))
+                    : CompletableFuture.completedFuture(null);
+        });
+
+        poller.drainBatch();
+
+        verify(repository).releaseClaims(List.of(1L));
+        verify(repository).markProcessed(eq(List.of(2L)), any());
+        verify(repository, never()).recordFailure(anyLong(), anyString());
+    }
+
+    @Test
+    void emptyOutboxClaimsNothing() {
+        when(repository.lockPendingBatch(anyInt(), anyInt(), any())).thenReturn(List.of());
+
+        assertThat(poller.drainBatch()).isZero();
+
+        verify(repository, never()).claim(anyList(), any());
+        verify(repository, never()).markProcessed(anyList(), any());
+    }
+
+    private void pending(long... ids) {
+        List<OutboxEvent> batch = Arrays.stream(ids).mapToObj(id -> {
+            OutboxEvent event = new OutboxEvent(OutboxEvent.AGGREGATE_APARTMENT, Long.toString(id), "CREATED", "{}");
+            event.setEventID(id);
+            return event;
+        }).toList();
+        when(repository.lockPendingBatch(anyInt(), anyInt(), any())).thenReturn(batch);
+    }
+}
@@ -0,0 +1,82 @@
+package com.propertyhub.review.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTests {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    private InvertedIndex.SearchResult search(String query, int limit) {
+        return index.search(ReviewTextAnalyzer.analyze(query), limit);
+    }
+
+    private static List<Long> ids(InvertedIndex.SearchResult result) {
+        return result.hits().stream().map(InvertedIndex.Hit::reviewId).toList();
+    }
+
+    @Test
+    void ranksRepeatedTermInShortReviewAboveSingleMentionInLongOne() {
+        index.add(1, "Quiet flat. Quiet street, quiet neighbours.");
+        index.add(2, "Spacious flat near the station with a large kitchen, a balcony, good light and quiet mornings");
+        index.add(3, "Noisy building");
+
+        InvertedIndex.SearchResult result = search("quiet", 10);
+
+        assertThat(ids(result)).containsExactly(1L, 2L);
+        assertThat(result.totalMatches()).isEqualTo(2);
+    }
+
+    @Test
+    void rareTermOutweighsCommonOne() {
+        index.add(1, "flat with garden");
+        index.add(2, "flat with pool");
+        index.add(3, "flat with pool");
+        index.add(4, "flat with pool");
+
+        assertThat(ids(search("garden pool", 10)).get(0)).isEqualTo(1L);
+    }
+
+    @Test
+    void matchesStemmedVariants() {
+        index.add(1, "The agents helped us a lot");
+
+        assertThat(ids(search("agent helping", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void keepsOnlyTheBestHitsButCountsAllMatches() {
+        for (long id = 1; id <= 20; id++) {
+            index.add(id, id <= 3 ? "balcony balcony balcony" : "balcony and a lot of other words in this review");
+        }
+
+        InvertedIndex.SearchResult result = search("balcony", 3);
+
+        assertThat(ids(result)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(result.totalMatches()).isEqualTo(20);
+    }
+
+    @Test
+    void removedAndReplacedReviewsAreNotReturnedForOldText() {
+        index.add(1, "friendly landlord");
+        index.add(2, "friendly agent");
+        index.remove(2);
+        index.add(1, "rude landlord");
+
+        assertThat(ids(search("friendly", 10))).isEmpty();
+        assertThat(ids(search("rude", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.deletedRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void unknownOrStopWordQueriesFindNothing() {
+        index.add(1, "bright rooms");
+
+        assertThat(search("the and", 10).hits()).isEmpty();
+        assertThat(search("garage", 10).totalMatches()).isZero();
+    }
+}
@@ -0,0 +1,153 @@
+package com.propertyhub.transaction;
+
+import com.propertyhub.apartment.entity.Apartment;
+import com.propertyhub.apartment.repository.ApartmentRepository;
+import com.propertyhub.auth.entity.User;
+import com.propertyhub.auth.repository.UserRepository;
+import com.propertyhub.payment.entity.RentPayment;
+import com.propertyhub.payment.repository.RentPaymentRepository;
+import com.propertyhub.review.entity.Review;
+import com.propertyhub.review.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.testcontainers.containers.MSSQLServerContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Calls every GET endpoint against a migrated SQL Server with some rows in it and checks that none of them makes
+ * Hibernate flush an UPDATE, i.e. that reads run in read-only transactions and do not modify what they load.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.propertyhub.transaction.UpdateStatementRecorder",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class GetEndpointsIssueNoUpdatesTests {
+
+    @Container
+    @ServiceConnection
+    static final MSSQLServerContainer<?> sqlServer =
+            new MSSQLServerContainer<>("mcr.microsoft.com/mssql/server:2022-latest").acceptLicense();
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^}/:]+)(:[^}]*)?}");
+
+    private static Map<String, String> ids;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @BeforeAll
+    static void seed(@Autowired UserRepository userRepository,
+                     @Autowired ApartmentRepository apartmentRepository,
+                     @Autowired ReviewRepository reviewRepository,
+                     @Autowired RentPaymentRepository rentPaymentRepository) {
+        User user = new User();
+        user.setName("Reader");
+        user.setEmail("reader@example.com");
+        user.setPassword("secret");
+        user = userRepository.save(user);
+
+        Apartment apartment = apartmentRepository.save(
+                new Apartment("Flat", 1200.0, 2, "Colombo", "Two bedroom flat", "AVAILABLE"));
+
+        Review review = new Review(user, 4, "Quiet street", "Good light in the mornings");
+        review.setIsApproved(true);
+        reviewRepository.save(review);
+
+        RentPayment payment = rentPaymentRepository.save(new RentPayment(user.getUserID(), apartment.getApartmentID(),
+                "CARD", "4111111111111111", "Reader", 3, 1200.0, 3600.0, "COMPLETED"));
+
+        ids = new LinkedHashMap<>();
+        ids.put("user", String.valueOf(user.getUserID()));
+        ids.put("apartment", String.valueOf(apartment.getApartmentID()));
+        ids.put("payment", String.valueOf(payment.getPaymentID()));
+    }
+
+    @Test
+    void getEndpointsDoNotUpdate() throws Exception {
+        List<String> urls = getUrls();
+        assertThat(urls).isNotEmpty();
+
+        Map<String, List<String>> updatesByUrl = new LinkedHashMap<>();
+        for (String url : urls) {
+            UpdateStatementRecorder.start();
+            try {
+                mockMvc.perform(get(url));
+            } finally {
+                List<String> updates = UpdateStatementRecorder.stop();
+                if (!updates.isEmpty()) updatesByUrl.put(url, updates);
+            }
+        }
+        assertThat(updatesByUrl).isEmpty();
+    }
+
+    private List<String> getUrls() {
+        List<String> urls = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            if (!entry.getValue().getBeanType().getPackageName().startsWith("com.propertyhub")) continue;
+            if (!info.getMethodsCondition().getMethods().contains(RequestMethod.GET)) continue;
+            for (String pattern : info.getPatternValues()) {
+                urls.add(expand(pattern));
+            }
+        }
+        return urls;
+    }
+
+    private static String expand(String pattern) {
+        Matcher matcher = PATH_VARIABLE.matcher(pattern);
+        StringBuilder url = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(url, valueFor(pattern, matcher.group(1)));
+        }
+        matcher.appendTail(url);
+        return url.toString();
+    }
+
+    private static String valueFor(String pattern, String variable) {
+        switch (variable.toLowerCase()) {
+            case "userid":
+                return ids.get("user");
+            case "paymentid":
+                return ids.get("payment");
+            case "dataset":
+                return "apartments";
+            case "status":
+                return "COMPLETED";
+            case "rating":
+                return "4";
+            case "id":
+                if (pattern.startsWith("/admin/users")) return ids.get("user");
+                if (pattern.startsWith("/admin/payments")) return ids.get("payment");
+                return ids.get("apartment");
+            default:
+                return "1";
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.propertyhub.transaction;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Hibernate statement inspector that remembers the UPDATE statements issued on the calling thread while recording
+ * is on. Scheduled jobs (outbox poller, index rebuilds) write from their own threads and are not counted.
+ */
+public class UpdateStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> recorded = new ThreadLocal<>();
+
+    public static void start() {
+        recorded.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> updates = recorded.get();
+        recorded.remove();
+        return updates == null ? List.of() : updates;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> updates = recorded.get();
+        if (updates != null && sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("update")) {
+            updates.add(sql);
+        }
+        return sql;
+    }
+}